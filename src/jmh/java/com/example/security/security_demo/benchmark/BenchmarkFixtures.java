@@ -0,0 +1,70 @@
+package com.example.security.security_demo.benchmark;
+
+import com.example.security.security_demo.security.key.JwtKeyRing;
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.user.repository.UserRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * 🧪 벤치마크용 객체 조립 (스프링 컨텍스트 없이 운영과 같은 코드 경로 사용)
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmarkSecretKeyForJwtTokenGeneration-0123456789";
+    static final String USERNAME = "bench-user";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * HS256 단일 키 JwtTokenUtil
+     */
+    static JwtTokenUtil jwtTokenUtil(boolean roleClaimsEnabled) {
+        JwtKeyRing keyRing = new JwtKeyRing(event -> { });
+        ReflectionTestUtils.setField(keyRing, "secret", SECRET);
+        ReflectionTestUtils.setField(keyRing, "keyFile", "");
+        ReflectionTestUtils.setField(keyRing, "drainSeconds", 900L);
+        ReflectionTestUtils.setField(keyRing, "signingAlgorithm", "HS256");
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 900L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "roleClaimsEnabled", roleClaimsEnabled);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+        return jwtTokenUtil;
+    }
+
+    /**
+     * findProfileByUsername 만 응답하는 UserRepository (DB 없이 principal 캐시 미스 경로 측정용)
+     */
+    static UserRepository userRepository() {
+        UserRepository.UserProfileRow row = new UserRepository.UserProfileRow() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getUsername() {
+                return USERNAME;
+            }
+
+            @Override
+            public String getRoles() {
+                return "ROLE_USER";
+            }
+        };
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findProfileByUsername")) {
+                        return USERNAME.equals(args[0]) ? Optional.of(row) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
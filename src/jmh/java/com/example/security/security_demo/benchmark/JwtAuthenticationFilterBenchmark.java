@@ -0,0 +1,95 @@
+package com.example.security.security_demo.benchmark;
+
+import com.example.security.security_demo.security.cache.RejectedTokenCache;
+import com.example.security.security_demo.security.cache.VerifiedTokenCache;
+import com.example.security.security_demo.security.filter.JwtAuthenticationFilter;
+import com.example.security.security_demo.security.handler.JwtAuthenticationEntryPoint;
+import com.example.security.security_demo.security.metrics.AuthMetrics;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.user.service.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧱 JwtAuthenticationFilter 전체 경로 (mock 서블릿 요청)
+ *
+ * - authenticated: 같은 토큰 반복 (검증 토큰 캐시 + principal 캐시 적중, 운영 정상 상태)
+ * - coldCache: 매번 캐시를 비워 서명 검증 + principal 로딩까지 수행
+ * - invalidToken: 위조 토큰 반복 (거절 토큰 캐시로 바로 401)
+ * - anonymous: Authorization 헤더 없음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private UserPrincipalCache userPrincipalCache;
+    private String token;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenUtil jwtTokenUtil = BenchmarkFixtures.jwtTokenUtil(false);
+
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenUtil, meterRegistry, 10_000, 600);
+        userPrincipalCache = new UserPrincipalCache(BenchmarkFixtures.userRepository(), meterRegistry, 10_000, 300);
+        filter = new JwtAuthenticationFilter(
+                jwtTokenUtil,
+                verifiedTokenCache,
+                userPrincipalCache,
+                new TokenRevocationService(null, null, 100_000, 0.001, 900),
+                new RejectedTokenCache(meterRegistry, 10_000, 300, 60),
+                new JwtAuthenticationEntryPoint(),
+                new AuthMetrics(meterRegistry));
+
+        token = jwtTokenUtil.generateToken(BenchmarkFixtures.USERNAME);
+        forgedToken = token.substring(0, token.length() - 4) + "AAAA";
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int authenticated() throws Exception {
+        return doFilter("Bearer " + token);
+    }
+
+    @Benchmark
+    public int coldCache() throws Exception {
+        verifiedTokenCache.invalidateAll();
+        userPrincipalCache.invalidateAll();
+        return doFilter("Bearer " + token);
+    }
+
+    @Benchmark
+    public int invalidToken() throws Exception {
+        return doFilter("Bearer " + forgedToken);
+    }
+
+    @Benchmark
+    public int anonymous() throws Exception {
+        return doFilter(null);
+    }
+
+    private int doFilter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
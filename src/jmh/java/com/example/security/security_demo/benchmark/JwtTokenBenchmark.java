@@ -0,0 +1,43 @@
+package com.example.security.security_demo.benchmark;
+
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔑 JWT 생성/검증 비용 (캐시 없이 JwtTokenUtil 직접 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    @Param({"false", "true"})
+    public boolean roleClaims;
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = BenchmarkFixtures.jwtTokenUtil(roleClaims);
+        token = jwtTokenUtil.generateToken(BenchmarkFixtures.USERNAME, List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(BenchmarkFixtures.USERNAME, List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenUtil.validateToken(token, BenchmarkFixtures.USERNAME);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.security.security_demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * ⚡ @Async 활성화
+ *
+ * 실행기는 Spring Boot 기본 applicationTaskExecutor 를 사용하므로,
+ * virtual 프로필(spring.threads.virtual.enabled=true, Java 21+)에서는 가상 스레드에서 실행된다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
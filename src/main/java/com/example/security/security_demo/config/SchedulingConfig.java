@@ -0,0 +1,12 @@
+package com.example.security.security_demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * ⏰ @Scheduled 작업 활성화 (키 파일 감시, 만료 데이터 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,104 @@
+package com.example.security.security_demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📌 가상 스레드 pinning 감지 (virtual 프로필 전용)
+ *
+ * synchronized 블록 안에서 블로킹(JDBC 드라이버, Hibernate 등)이 일어나면 가상 스레드가
+ * 캐리어 스레드에 고정되어 동시성이 캐리어 수(= CPU 코어 수)로 떨어진다.
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 메트릭과 로그로 남긴다.
+ *
+ * 메트릭: jvm.threads.virtual.pinned (고정된 시간 분포)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final long logIntervalNanos;
+    private final AtomicLong lastLoggedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinning.threshold-ms:20}") long thresholdMillis,
+                                       @Value("${app.virtual-threads.pinning.log-interval:60}") long logIntervalSeconds) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.logIntervalNanos = TimeUnit.SECONDS.toNanos(logIntervalSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("📌 가상 스레드 pinning 감지 시작 (threshold={}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        // 같은 원인이 반복되면 로그가 폭주하므로 간격 제한 (메트릭은 모두 기록)
+        long now = System.nanoTime();
+        long last = lastLoggedAt.get();
+        if (now - last < logIntervalNanos || !lastLoggedAt.compareAndSet(last, now)) {
+            return;
+        }
+        log.warn("📌 가상 스레드 pinning {}ms (thread={})\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?",
+                formatStackTrace(event));
+    }
+
+    private static String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "    (스택 없음)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), MAX_LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append("    at ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+}
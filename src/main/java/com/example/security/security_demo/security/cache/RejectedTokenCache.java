@@ -0,0 +1,113 @@
+package com.example.security.security_demo.security.cache;
+
+import com.example.security.security_demo.security.key.UnknownSigningKeyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ⛔ 최근 거절한 토큰 캐시 (토큰 다이제스트 → 거절 사유)
+ *
+ * 만료/위조 토큰을 계속 보내는 클라이언트 때문에 매번 서명 검사와 로그 출력을 반복하지 않도록,
+ * 한 번 거절한 토큰은 일정 시간 동안 다이제스트 조회만으로 바로 401 처리한다.
+ * 같은 토큰에 대한 로그도 log-interval 마다 한 번만 남긴다.
+ *
+ * 키 링에 없는 kid 로 서명된 토큰은 키 동기화 후 유효해질 수 있으므로 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class RejectedTokenCache {
+
+    public enum Reason { EXPIRED, INVALID }
+
+    private final Cache<String, Rejection> cache;
+    private final long logIntervalNanos;
+
+    public RejectedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.rejected-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.rejected-cache.ttl:300}") long ttlSeconds,
+                              @Value("${jwt.rejected-cache.log-interval:60}") long logIntervalSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.rejected-tokens");
+        this.logIntervalNanos = TimeUnit.SECONDS.toNanos(logIntervalSeconds);
+    }
+
+    /**
+     * 최근 거절한 토큰이면 true (반복 횟수 기록, 로그는 간격 제한)
+     */
+    public boolean isRejected(String digest) {
+        return rejectionReason(digest) != null;
+    }
+
+    /**
+     * 최근 거절한 토큰이면 거절 사유 (만료 / 그 외), 아니면 null
+     */
+    public Reason rejectionReason(String digest) {
+        Rejection rejection = cache.getIfPresent(digest);
+        if (rejection == null) {
+            return null;
+        }
+        long hits = rejection.hits.incrementAndGet();
+        if (rejection.shouldLog(logIntervalNanos)) {
+            log.warn("⛔ 거절된 JWT 토큰 재사용 ({}회): {}", hits, rejection.message);
+        }
+        return rejection.reason;
+    }
+
+    /**
+     * 검증 실패 기록 (처음 거절할 때만 로그)
+     */
+    public void reject(String digest, Exception cause) {
+        if (cause instanceof UnknownSigningKeyException) {
+            log.warn("❌ 유효하지 않은 JWT 토큰: {}", cause.getMessage());
+            return;
+        }
+        Rejection rejection = new Rejection(
+                cause instanceof ExpiredJwtException ? Reason.EXPIRED : Reason.INVALID,
+                cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (cache.asMap().putIfAbsent(digest, rejection) == null) {
+            log.warn("❌ 유효하지 않은 JWT 토큰: {}", cause.getMessage());
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static final class Rejection {
+
+        private final Reason reason;
+        private final String message;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong lastLoggedAt = new AtomicLong(System.nanoTime());
+
+        private Rejection(Reason reason, String message) {
+            this.reason = reason;
+            this.message = message;
+        }
+
+        // 간격이 지났을 때 한 스레드만 로그를 남기도록 CAS
+        private boolean shouldLog(long intervalNanos) {
+            long now = System.nanoTime();
+            long last = lastLoggedAt.get();
+            return now - last >= intervalNanos && lastLoggedAt.compareAndSet(last, now);
+        }
+    }
+}
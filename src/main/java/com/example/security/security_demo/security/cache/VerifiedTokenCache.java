@@ -0,0 +1,115 @@
+package com.example.security.security_demo.security.cache;
+
+import com.example.security.security_demo.security.key.JwtKeysRemovedEvent;
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🗃️ 검증이 끝난 토큰 캐시 (토큰 다이제스트 → VerifiedToken)
+ *
+ * 같은 Bearer 토큰이 수명 동안 수천 번 들어오므로, 한 번 검증한 토큰은
+ * 서명 검사와 Base64/JSON 디코딩 없이 바로 재사용한다.
+ *
+ * - 크기 기반 제거 (jwt.cache.max-size)
+ * - 엔트리 만료는 토큰의 exp 와 jwt.cache.max-ttl 중 빠른 쪽
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenUtil jwtTokenUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.cache.max-ttl:600}") long maxTtlSeconds) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(maxTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 검증 후 캐시에 저장
+     *
+     * @param digest TokenDigests.sha256(token)
+     * @throws io.jsonwebtoken.JwtException 검증 실패 (실패 결과는 캐시하지 않음)
+     */
+    public VerifiedToken verify(String digest, String token) {
+        return cache.get(digest, key -> jwtTokenUtil.verify(token));
+    }
+
+    public void invalidate(String digest) {
+        cache.invalidate(digest);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 제거된 키로 서명된 토큰이 캐시에 남지 않도록 비우기
+     */
+    @EventListener
+    public void onKeysRemoved(JwtKeysRemovedEvent event) {
+        log.info("🧹 JWT 키 제거로 검증 토큰 캐시 초기화: {}", event.kids());
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 토큰의 exp 를 넘지 않도록 엔트리별 만료 시간 계산
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long remainingMillis = Duration.between(Instant.now(), value.expiresAt()).toMillis();
+            return Math.max(0L, Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,10 +2,18 @@
 
 package com.example.security.security_demo.security.config;
 
+import com.example.security.security_demo.security.util.BCryptCostTuner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 🔧 PasswordEncoder 전용 설정 클래스
@@ -17,12 +25,40 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  *
  * 해결 방법:
  * PasswordEncoder를 별도 설정 클래스로 분리하여 순환 참조 차단
+ *
+ * 🔄 {id} 접두사 기반 DelegatingPasswordEncoder 사용
+ * - 새 해시는 {bcrypt} 로 저장, cost 는 기동 시 목표 지연 시간에 맞춰 자동 결정 (strength 로 고정 가능)
+ * - upgradeEncoding 은 저장된 cost 가 현재 cost 보다 낮을 때만 재해싱하므로,
+ *   호스트마다 cost 가 달라도 해시는 가장 높은 cost 로 한 번 올라갈 뿐 내려가지 않는다
+ * - 접두사가 없는 기존 해시는 BCrypt 로 검증하고, 로그인 성공 시 새 형식으로 재해싱
  */
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.target-latency-ms:250}") long targetLatencyMillis) {
+
+        // 0 이면 호스트 벤치마크로 결정하되 min-strength 아래로는 내려가지 않음
+        int bcryptStrength = strength > 0
+                ? strength
+                : Math.max(minStrength, BCryptCostTuner.tune(targetLatencyMillis));
+        log.info("⏱️ BCrypt cost {} 사용 ({})", bcryptStrength,
+                strength > 0 ? "설정값" : "목표 " + targetLatencyMillis + "ms 기준 자동 결정");
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, bcrypt);
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        // 접두사 없는 기존 해시 ($2a$...) 호환
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.example.security.security_demo.security.config;
+
+import com.example.security.security_demo.security.util.PathPrefixTrie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+
+/**
+ * 🚪 인증 없이 접근 가능한 경로 목록 (단일 원본)
+ *
+ * SecurityConfig 의 permitAll 규칙과 JwtAuthenticationFilter 의 스킵 규칙이 모두 같은 trie 매처({@link #REQUEST_MATCHER})를
+ * 쓰므로 후행 슬래시, "/**", context path 처리까지 어긋날 일이 없다. 공개 경로(스트리밍 포함)는 JWT 필터를 아예 거치지 않는다.
+ *
+ * 패턴은 정확한 경로 또는 "/**" 로 끝나는 하위 경로만 사용한다 ({@link PathPrefixTrie}).
+ */
+public final class PublicRoutes {
+
+    public record Route(HttpMethod method, String pattern) {
+
+        static Route any(String pattern) {
+            return new Route(null, pattern);
+        }
+
+        static Route get(String pattern) {
+            return new Route(HttpMethod.GET, pattern);
+        }
+
+        static Route post(String pattern) {
+            return new Route(HttpMethod.POST, pattern);
+        }
+    }
+
+    public static final List<Route> ROUTES = List.of(
+            // Swagger UI, API Docs
+            Route.get("/swagger-ui.html"),
+            Route.get("/swagger-ui/**"),
+            Route.get("/v3/api-docs/**"),
+            Route.any("/swagger-resources/**"),
+            Route.any("/webjars/**"),
+
+            // 인증
+            Route.post("/auth/signup"),
+            Route.post("/auth/login"),
+            Route.post("/auth/refresh"),
+            Route.get("/.well-known/jwks.json"),
+
+            // 공개 API (AI 스트리밍 포함)
+            Route.get("/api/users/count"),
+            Route.any("/api/ai/**"),
+            Route.any("/api/vector/**"),
+
+            // 채팅방 목록 조회는 누구나 가능 (생성은 인증 필요)
+            Route.get("/api/chatting/rooms"),
+
+            // 헬스 체크 (메트릭 수집은 SecurityConfig 에서 ROLE_METRICS 필요)
+            Route.get("/actuator/health/**"),
+
+            Route.any("/error"),
+            Route.any("/favicon.ico")
+    );
+
+    private static final PathPrefixTrie MATCHER = compile(ROUTES);
+
+    /** permitAll 과 JWT 필터 스킵에 함께 쓰는 매처 */
+    public static final RequestMatcher REQUEST_MATCHER = PublicRoutes::matches;
+
+    private PublicRoutes() {
+    }
+
+    /**
+     * 공개 경로 여부 (요청 URI 에서 context path 를 뗀 경로 기준)
+     */
+    public static boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return matches(request.getMethod(), path);
+    }
+
+    /**
+     * 공개 경로 여부 (context path 를 제외한 경로 기준)
+     */
+    public static boolean matches(String method, String path) {
+        return MATCHER.matches(method, path);
+    }
+
+    static PathPrefixTrie compile(List<Route> routes) {
+        PathPrefixTrie trie = new PathPrefixTrie();
+        for (Route route : routes) {
+            trie.add(route.method() != null ? route.method().name() : null, route.pattern());
+        }
+        return trie;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.security.security_demo.security.config;
 
 import com.example.security.security_demo.security.filter.JwtAuthenticationFilter;
+import com.example.security.security_demo.security.handler.JwtAccessDeniedHandler;
 import com.example.security.security_demo.security.handler.JwtAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +25,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
@@ -47,43 +49,25 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
 
-                // URL별 접근 권한 설정
-                .authorizeHttpRequests(authorize -> authorize
-                        // Swagger UI, API Docs 허용
-                        .requestMatchers(
-                                HttpMethod.GET,
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**"
-                        ).permitAll()
-                        .requestMatchers(
-                                "/swagger-resources/**",
-                                "/webjars/**"
-                        ).permitAll()
+                // URL별 접근 권한 설정 (공개 경로는 PublicRoutes 에서 일괄 관리)
+                .authorizeHttpRequests(authorize -> {
+                    // JWT 필터의 스킵 판단과 같은 trie 매처 하나로 등록
+                    authorize.requestMatchers(PublicRoutes.REQUEST_MATCHER).permitAll();
 
-                        // Public endpoints
-                        .requestMatchers(HttpMethod.POST, "/auth/signup").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/users/count").permitAll()
-                        .requestMatchers("/api/ai/**").permitAll()
-                        .requestMatchers("/api/vector/**").permitAll()
-                        .requestMatchers("/error").permitAll()
-                        .requestMatchers("/favicon.ico").permitAll()
-                        
-                        // 채팅방 목록 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/chatting/rooms").permitAll()
-                        // 채팅방 생성은 인증 필요 (기본적으로 인증 필요)
+                    // 메트릭 수집은 전용 역할을 가진 수집기 계정만
+                    authorize.requestMatchers(HttpMethod.GET, "/actuator/prometheus").hasRole("METRICS");
 
-                        // 나머지 요청은 인증 필요
-                        .anyRequest().authenticated()
-                )
+                    // 나머지 요청은 인증 필요
+                    authorize.anyRequest().authenticated();
+                })
 
                 // JWT 필터 등록
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
-                // 인증 실패 시 JSON 응답
+                // 인증 실패(401) / 인가 실패(403) 시 JSON 응답
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                        .accessDeniedHandler(jwtAccessDeniedHandler)
                 );
 
         return http.build();
@@ -0,0 +1,44 @@
+package com.example.security.security_demo.security.controller;
+
+import com.example.security.security_demo.security.key.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 🌐 JWKS 공개키 엔드포인트
+ *
+ * ES256 모드에서 게이트웨이/사이드카가 이 문서를 캐시해 두고 토큰을 로컬에서 검증한다.
+ * (HS256 모드에서는 공개할 키가 없으므로 빈 keys 를 반환)
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Auth", description = "회원가입 · 로그인 · 토큰 검증 API")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Operation(summary = "JWKS", description = "토큰 검증용 공개키 목록 (RFC 7517)")
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks(WebRequest webRequest) {
+        JwtKeyRing.Jwks jwks = jwtKeyRing.jwks();
+
+        // If-None-Match 가 같으면 304 (본문 없음)
+        if (webRequest.checkNotModified(jwks.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .eTag(jwks.etag())
+                .body(jwks.document());
+    }
+}
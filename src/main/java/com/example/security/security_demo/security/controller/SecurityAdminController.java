@@ -0,0 +1,139 @@
+package com.example.security.security_demo.security.controller;
+
+import com.example.security.security_demo.security.cache.RejectedTokenCache;
+import com.example.security.security_demo.security.cache.VerifiedTokenCache;
+import com.example.security.security_demo.security.dto.RevokeTokenRequest;
+import com.example.security.security_demo.security.dto.RotateKeyRequest;
+import com.example.security.security_demo.security.key.JwtKeyRing;
+import com.example.security.security_demo.security.key.JwtSigningKey;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🔐 보안 서브시스템 운영용 엔드포인트 (ADMIN 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/security")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SecurityAdminController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${jwt.expiration:86400}")
+    private long maxTokenLifetimeSeconds;
+
+    /**
+     * 검증 토큰 캐시 적중/미스 통계
+     */
+    @GetMapping("/token-cache/stats")
+    public ResponseEntity<Map<String, Object>> tokenCacheStats() {
+        CacheStats stats = verifiedTokenCache.stats();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("size", verifiedTokenCache.size());
+        response.put("hitCount", stats.hitCount());
+        response.put("missCount", stats.missCount());
+        response.put("hitRate", stats.hitRate());
+        response.put("evictionCount", stats.evictionCount());
+        response.put("rejectedSize", rejectedTokenCache.size());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 검증 토큰 캐시 + 거절 토큰 캐시 비우기
+     */
+    @DeleteMapping("/token-cache")
+    public ResponseEntity<Map<String, Object>> clearTokenCache() {
+        verifiedTokenCache.invalidateAll();
+        rejectedTokenCache.invalidateAll();
+        log.info("🧹 검증 토큰 캐시 초기화");
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "검증 토큰 캐시를 비웠습니다."
+        ));
+    }
+
+    /**
+     * JWT 키 링 조회 (키 값은 노출하지 않음)
+     */
+    @GetMapping("/keys")
+    public ResponseEntity<Map<String, Object>> keys() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("activeKid", jwtKeyRing.activeKey().kid());
+        response.put("keys", jwtKeyRing.describe());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * JWT 서명 키 교체 (이전 키는 드레인 기간 동안 검증 전용으로 유지)
+     */
+    @PostMapping("/keys/rotate")
+    public ResponseEntity<Map<String, Object>> rotateKey(@RequestBody(required = false) RotateKeyRequest request) {
+        try {
+            String kid = request != null ? request.getKid() : null;
+            byte[] secret = request != null && request.getSecret() != null
+                    ? Base64.getDecoder().decode(request.getSecret())
+                    : null;
+
+            JwtSigningKey key = jwtKeyRing.rotate(kid, secret);
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "JWT 서명 키를 교체했습니다.",
+                    "activeKid", key.kid()
+            ));
+        } catch (IllegalArgumentException | JwtException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 토큰 강제 폐기 (jti 기준)
+     */
+    @PostMapping("/revocations")
+    public ResponseEntity<Map<String, Object>> revoke(@RequestBody RevokeTokenRequest request) {
+        if (request.getJti() == null || request.getJti().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "jti 는 필수입니다."
+            ));
+        }
+
+        // 만료 시각을 모르면 토큰 최대 수명만큼 유지
+        Instant expiresAt = request.getExpiresAt() != null
+                ? request.getExpiresAt()
+                : Instant.now().plusSeconds(maxTokenLifetimeSeconds);
+        tokenRevocationService.revoke(request.getJti(), expiresAt);
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "토큰을 폐기했습니다.",
+                "revokedCount", tokenRevocationService.size()
+        ));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.security.security_demo.security.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 점진적 로그인 잠금 상태 (username 기준)
+ *
+ * 실패 버킷이 바닥날 때마다 level 이 올라가고 잠금 시간이 두 배씩 늘어난다.
+ * 로그인에 성공하면 삭제된다.
+ */
+@Entity
+@Table(name = "login_lockouts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginLockout {
+
+    @Id
+    @Column(length = 255)
+    private String username;
+
+    @Column(nullable = false)
+    private int level;
+
+    @Column(nullable = false)
+    private Instant lockedUntil;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
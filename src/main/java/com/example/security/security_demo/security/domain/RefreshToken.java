@@ -0,0 +1,52 @@
+package com.example.security.security_demo.security.domain;
+
+import com.example.security.security_demo.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰 (원문은 저장하지 않고 SHA-256 다이제스트만 저장)
+ *
+ * 같은 로그인에서 이어지는 토큰들은 familyId 를 공유하며,
+ * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // 교체(사용)된 시각. 값이 있으면 재사용 불가
+    private Instant usedAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+}
@@ -0,0 +1,32 @@
+package com.example.security.security_demo.security.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 사용자 단위 토큰 폐기 (revokedAt 이전에 발급된 해당 사용자의 액세스 토큰은 모두 무효)
+ *
+ * 사용자 삭제 / 역할 변경 시 기록하며, 액세스 토큰 최대 수명이 지나면 정리 대상
+ */
+@Entity
+@Table(name = "user_token_revocations", indexes = {
+        @Index(name = "idx_user_token_revocations_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_user_token_revocations_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTokenRevocation {
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
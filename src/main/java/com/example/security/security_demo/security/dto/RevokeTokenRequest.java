@@ -0,0 +1,14 @@
+package com.example.security.security_demo.security.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * 토큰 강제 폐기 요청 DTO
+ */
+@Data
+public class RevokeTokenRequest {
+    private String jti;
+    private Instant expiresAt; // 생략 시 토큰 최대 수명 기준
+}
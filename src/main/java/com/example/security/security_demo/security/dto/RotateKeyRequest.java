@@ -0,0 +1,15 @@
+package com.example.security.security_demo.security.dto;
+
+import lombok.Data;
+
+/**
+ * JWT 서명 키 교체 요청 DTO
+ *
+ * 두 값 모두 생략 가능. secret 을 생략하면 이 인스턴스 전용 랜덤 키가 생성되므로,
+ * 여러 대로 운영할 때는 같은 secret(Base64) 을 모든 인스턴스에 전달해야 한다.
+ */
+@Data
+public class RotateKeyRequest {
+    private String kid;
+    private String secret; // Base64 인코딩된 256bit 이상 키
+}
@@ -0,0 +1,18 @@
+package com.example.security.security_demo.security.exception;
+
+/**
+ * 비밀번호 해싱 큐가 가득 찼거나 대기 시간이 초과된 경우 (503 + Retry-After 로 응답)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.security.security_demo.security.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 최근 거절된 토큰이 다시 들어온 경우 (검증 없이 바로 401)
+ *
+ * 요청마다 예외를 새로 만들지 않도록 단일 인스턴스를 쓰고 스택 트레이스는 채우지 않는다.
+ */
+public class RejectedTokenException extends AuthenticationException {
+
+    public static final RejectedTokenException INSTANCE = new RejectedTokenException();
+
+    private RejectedTokenException() {
+        super("최근 거절된 토큰입니다.");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.security.security_demo.security.handler;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 📝 미리 인코딩해 둔 JSON 에러 응답 템플릿
+ *
+ * 고정 필드(success, error, message, status)는 기동 시 UTF-8 바이트로 만들어 두고,
+ * 요청마다 달라지는 path / timestamp 만 출력 스트림에 바로 써 넣는다.
+ * (요청마다 Map 생성 · 날짜 포맷 · ObjectMapper 직렬화를 하지 않음)
+ *
+ * 출력 형식:
+ * {"success":false,"error":"...","message":"...","status":401,"timestamp":"...","path":"..."}
+ */
+public final class ErrorResponseTemplate {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final byte[] PATH_FIELD = ascii("\",\"path\":\"");
+    private static final byte[] DETAILS_FIELD = ascii("\",\"details\":\"");
+    private static final byte[] TYPE_FIELD = ascii("\",\"type\":\"");
+    private static final byte[] END = ascii("\"}");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    // 초 단위로 한 번만 포맷한 타임스탬프
+    private static volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    private final int status;
+    private final byte[] prefix;
+
+    public ErrorResponseTemplate(int status, String error, String message) {
+        this.status = status;
+        StringBuilder json = new StringBuilder("{\"success\":false,\"error\":\"");
+        appendEscaped(json, error);
+        json.append("\",\"message\":\"");
+        appendEscaped(json, message);
+        json.append("\",\"status\":").append(status).append(",\"timestamp\":\"");
+        this.prefix = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void write(HttpServletResponse response, String path) throws IOException {
+        write(response, path, null, null);
+    }
+
+    /**
+     * 응답 전송
+     *
+     * @param details 디버그용 상세 메시지 (null 이면 생략)
+     * @param type    디버그용 예외 타입 (null 이면 생략)
+     */
+    public void write(HttpServletResponse response, String path, String details, String type) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(currentTimestamp());
+        out.write(PATH_FIELD);
+        writeEscaped(out, path);
+        if (details != null) {
+            out.write(DETAILS_FIELD);
+            writeEscaped(out, details);
+        }
+        if (type != null) {
+            out.write(TYPE_FIELD);
+            writeEscaped(out, type);
+        }
+        out.write(END);
+        out.flush();
+    }
+
+    private static byte[] currentTimestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.epochSecond() != epochSecond) {
+            String formatted = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault())
+                    .format(TIMESTAMP_FORMAT);
+            cached = new CachedTimestamp(epochSecond, ascii(formatted));
+            cachedTimestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    // JSON 문자열 이스케이프 (ASCII 가 아닌 문자는 \\uXXXX 로 써서 인코딩 변환 없이 처리)
+    private static void writeEscaped(ServletOutputStream out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c >= 0x20 && c < 0x7f) {
+                out.write(c);
+            } else {
+                out.write('\\');
+                out.write('u');
+                out.write(HEX[(c >> 12) & 0xf]);
+                out.write(HEX[(c >> 8) & 0xf]);
+                out.write(HEX[(c >> 4) & 0xf]);
+                out.write(HEX[c & 0xf]);
+            }
+        }
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record CachedTimestamp(long epochSecond, byte[] bytes) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.security.security_demo.security.handler;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 🚫 인가 실패(403) JSON 응답 - 인증은 되었지만 권한이 부족한 경우
+ */
+@Slf4j
+@Component
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    private static final ErrorResponseTemplate ACCESS_DENIED = new ErrorResponseTemplate(
+            HttpServletResponse.SC_FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다.");
+
+    @Value("${security.error-response.include-details:false}")
+    private boolean includeDetails;
+
+    @Override
+    public void handle(HttpServletRequest request,
+                       HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException, ServletException {
+
+        log.warn("인가 실패 - IP: {}, URI: {}, 에러: {}",
+                request.getRemoteAddr(),
+                request.getRequestURI(),
+                accessDeniedException.getMessage());
+
+        if (includeDetails) {
+            ACCESS_DENIED.write(response, request.getRequestURI(),
+                    accessDeniedException.getMessage(), accessDeniedException.getClass().getSimpleName());
+        } else {
+            ACCESS_DENIED.write(response, request.getRequestURI());
+        }
+    }
+}
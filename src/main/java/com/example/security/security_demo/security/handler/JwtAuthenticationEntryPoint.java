@@ -1,88 +1,78 @@
 package com.example.security.security_demo.security.handler;// 📁 src/main/java/com/example/security/security_demo/config/JwtAuthenticationEntryPoint.java
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.security.security_demo.security.exception.RejectedTokenException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String ERROR = "AUTHENTICATION_FAILED";
+
+    // 📝 상황별 응답은 고정 문구라 미리 만들어 둔 템플릿 사용
+    private static final ErrorResponseTemplate MISSING_TOKEN = new ErrorResponseTemplate(
+            HttpServletResponse.SC_UNAUTHORIZED, ERROR,
+            "인증 토큰이 필요합니다. Authorization 헤더에 Bearer 토큰을 포함해주세요.");
+    private static final ErrorResponseTemplate MALFORMED_HEADER = new ErrorResponseTemplate(
+            HttpServletResponse.SC_UNAUTHORIZED, ERROR,
+            "올바르지 않은 토큰 형식입니다. 'Bearer {토큰}' 형식으로 전송해주세요.");
+    private static final ErrorResponseTemplate INVALID_TOKEN = new ErrorResponseTemplate(
+            HttpServletResponse.SC_UNAUTHORIZED, ERROR,
+            "유효하지 않거나 만료된 토큰입니다. 다시 로그인해주세요.");
+
+    // 🔍 디버그 정보 포함 여부 (운영환경에서는 false)
+    @Value("${security.error-response.include-details:false}")
+    private boolean includeDetails;
 
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
-        log.warn("인증 실패 - IP: {}, URI: {}, 에러: {}",
-                request.getRemoteAddr(),
-                request.getRequestURI(),
-                authException.getMessage());
-
-        // 🎯 JSON 응답 설정
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401
-
-        // 📝 에러 응답 데이터 구성
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("success", false);
-        errorResponse.put("error", "AUTHENTICATION_FAILED");
-        errorResponse.put("message", determineErrorMessage(request, authException));
-        errorResponse.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        errorResponse.put("path", request.getRequestURI());
-        errorResponse.put("status", 401);
-
-        // 🔍 디버그 정보 (개발환경에서만 포함)
-        if (isDebugMode()) {
-            errorResponse.put("details", authException.getMessage());
-            errorResponse.put("type", authException.getClass().getSimpleName());
+        // 거절된 토큰 재사용은 RejectedTokenCache 에서 이미 간격 제한 로그를 남김
+        if (!(authException instanceof RejectedTokenException)) {
+            log.warn("인증 실패 - IP: {}, URI: {}, 에러: {}",
+                    request.getRemoteAddr(),
+                    request.getRequestURI(),
+                    authException.getMessage());
         }
 
-        // JSON 응답 전송
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        response.getWriter().flush();
+        ErrorResponseTemplate template = determineTemplate(request);
+        if (includeDetails) {
+            template.write(response, request.getRequestURI(),
+                    authException.getMessage(), authException.getClass().getSimpleName());
+        } else {
+            template.write(response, request.getRequestURI());
+        }
     }
 
     /**
-     * 상황에 맞는 에러 메시지 결정
+     * 상황에 맞는 에러 응답 결정
      */
-    private String determineErrorMessage(HttpServletRequest request, AuthenticationException authException) {
+    private ErrorResponseTemplate determineTemplate(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
 
         // Authorization 헤더가 없는 경우
-        if (authHeader == null || authHeader.trim().isEmpty()) {
-            return "인증 토큰이 필요합니다. Authorization 헤더에 Bearer 토큰을 포함해주세요.";
+        if (authHeader == null || authHeader.isBlank()) {
+            return MISSING_TOKEN;
         }
 
         // Bearer 형식이 아닌 경우
         if (!authHeader.startsWith("Bearer ")) {
-            return "올바르지 않은 토큰 형식입니다. 'Bearer {토큰}' 형식으로 전송해주세요.";
+            return MALFORMED_HEADER;
         }
 
         // 토큰이 있지만 유효하지 않은 경우
-        return "유효하지 않거나 만료된 토큰입니다. 다시 로그인해주세요.";
-    }
-
-    /**
-     * 디버그 모드 여부 확인 (실제 환경에서는 프로퍼티로 관리)
-     */
-    private boolean isDebugMode() {
-        // TODO: application.yml에서 설정값으로 관리
-        return true; // 개발환경에서는 true, 운영환경에서는 false
+        return INVALID_TOKEN;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,404 @@
+package com.example.security.security_demo.security.key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 🔑 kid 기반 JWT 키 링
+ *
+ * - 서명은 항상 active 키 하나로, 검증은 헤더의 kid 로 해당 키를 찾아서 수행
+ * - 키 객체는 등록 시점에 한 번만 만들어 두므로 호출마다 키를 파생하지 않는다
+ * - 키 교체는 재시작 없이: 키 파일(jwt.keys.file) 감시 또는 관리자 API
+ * - 밀려난 키는 jwt.keys.drain 동안 검증 전용으로 남았다가 제거된다 (기존 토큰 401 방지)
+ * - jwt.signing.algorithm=ES256 이면 EC 키로 서명하고, 공개키는 JWKS 로 배포해
+ *   다른 서비스가 로컬에서 토큰을 검증할 수 있게 한다 (이 모드에서는 키 파일을 사용하지 않음)
+ *
+ * 키 파일 형식 (Properties):
+ * <pre>
+ * active=2026-10
+ * key.2026-10=base64:....
+ * key.2026-07=plain-text-secret-at-least-32-bytes
+ * </pre>
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    /** jwt.secret 으로 만든 기본 키. kid 가 없는 기존 토큰도 이 키로 검증한다 */
+    public static final String DEFAULT_KID = "default";
+
+    private static final String ACTIVE_PROPERTY = "active";
+    private static final String KEY_PROPERTY_PREFIX = "key.";
+    private static final String BASE64_PREFIX = "base64:";
+
+    @Value("${jwt.secret:mySecretKeyForJWTTokenGeneration}")
+    private String secret;
+
+    @Value("${jwt.keys.file:}")
+    private String keyFile;
+
+    // 밀려난 키를 유지하는 시간 (기본: 토큰 수명)
+    @Value("${jwt.keys.drain:${jwt.expiration:86400}}")
+    private long drainSeconds;
+
+    // HS256 (공유 비밀키) 또는 ES256 (비대칭)
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String signingAlgorithm;
+
+    @Value("${jwt.es256.kid:es256-1}")
+    private String ecKid;
+
+    @Value("${jwt.es256.private-key:}") // PKCS#8 PEM 파일 경로
+    private String ecPrivateKeyPath;
+
+    @Value("${jwt.es256.public-key:}")  // X.509 PEM 파일 경로
+    private String ecPublicKeyPath;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 읽기는 락 없이, 변경은 synchronized 로 새 스냅샷을 만들어 교체
+    private volatile State state;
+    private long keyFileLastModified = -1L;
+
+    // 상태가 바뀔 때만 다시 만드는 JWKS 문서
+    private volatile Jwks jwksCache;
+
+    public JwtKeyRing(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void init() {
+        JwtSigningKey defaultKey = JwtSigningKey.hmac(DEFAULT_KID, Keys.hmacShaKeyFor(secret.getBytes()));
+        this.state = new State(DEFAULT_KID, Map.of(DEFAULT_KID, defaultKey));
+
+        if (isAsymmetricMode()) {
+            // 기존 HMAC 토큰은 드레인 기간 동안 계속 검증
+            activate(loadOrGenerateEcKey());
+            log.info("🔑 JWT ES256 서명 모드 (kid={})", ecKid);
+        } else {
+            reloadKeyFile();
+        }
+    }
+
+    public boolean isAsymmetricMode() {
+        return SignatureAlgorithm.ES256.getValue().equalsIgnoreCase(signingAlgorithm);
+    }
+
+    /**
+     * 현재 서명에 사용하는 키
+     */
+    public JwtSigningKey activeKey() {
+        State current = state;
+        return current.keys().get(current.activeKid());
+    }
+
+    /**
+     * JwtParser 가 헤더의 kid 로 검증 키를 찾을 때 호출
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KID;
+        JwtSigningKey key = state.keys().get(kid);
+        if (key == null) {
+            throw new UnknownSigningKeyException(kid);
+        }
+        return key.verificationKey();
+    }
+
+    /**
+     * 새 키로 교체 (관리자 API)
+     *
+     * @param kid    null 이면 자동 생성
+     * @param secret null 이면 256bit 랜덤 키 생성 (이 인스턴스에서만 유효). ES256 모드에서는 사용 불가
+     */
+    public synchronized JwtSigningKey rotate(String kid, byte[] secret) {
+        String newKid = (kid == null || kid.isBlank()) ? generateKid() : kid;
+        if (state.keys().containsKey(newKid)) {
+            throw new IllegalArgumentException("이미 존재하는 kid 입니다: " + newKid);
+        }
+
+        if (isAsymmetricMode()) {
+            if (secret != null) {
+                throw new IllegalArgumentException("ES256 모드에서는 secret 을 지정할 수 없습니다.");
+            }
+            // 새 키 쌍은 JWKS 로 배포되므로 다른 서비스는 별도 작업 없이 검증 가능
+            JwtSigningKey newKey = JwtSigningKey.es256(newKid, Keys.keyPairFor(SignatureAlgorithm.ES256));
+            activate(newKey);
+            log.info("🔑 JWT ES256 서명 키 교체: {}", newKid);
+            return newKey;
+        }
+
+        byte[] material = secret;
+        if (material == null) {
+            material = new byte[32];
+            secureRandom.nextBytes(material);
+        }
+
+        JwtSigningKey newKey = JwtSigningKey.hmac(newKid, Keys.hmacShaKeyFor(material));
+        activate(newKey);
+        log.info("🔑 JWT 서명 키 교체: {}", newKid);
+        return newKey;
+    }
+
+    /**
+     * 새 키를 등록하고 active 로 전환. 이전 active 키는 드레인 상태로 전환
+     */
+    synchronized void activate(JwtSigningKey newKey) {
+        State current = state;
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>(current.keys());
+
+        JwtSigningKey previous = keys.get(current.activeKid());
+        if (previous != null && !previous.kid().equals(newKey.kid()) && !previous.isRetiring()) {
+            keys.put(previous.kid(), previous.retireAt(Instant.now().plusSeconds(drainSeconds)));
+        }
+        keys.put(newKey.kid(), newKey);
+
+        this.state = new State(newKey.kid(), Map.copyOf(keys));
+    }
+
+    /**
+     * 키 파일이 바뀌었으면 다시 읽기
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.poll-interval:10000}")
+    public synchronized void reloadKeyFile() {
+        if (keyFile == null || keyFile.isBlank() || isAsymmetricMode()) {
+            return;
+        }
+
+        Path path = Path.of(keyFile);
+        try {
+            if (!Files.exists(path)) {
+                return;
+            }
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            if (lastModified == keyFileLastModified) {
+                return;
+            }
+            // 잘못된 파일이어도 다음 수정 전까지는 다시 시도하지 않음
+            keyFileLastModified = lastModified;
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            applyKeyFile(properties);
+        } catch (IOException | RuntimeException e) {
+            // 잘못된 파일 때문에 기존 키 링을 망가뜨리지 않도록 현재 상태 유지
+            log.error("❌ JWT 키 파일 로딩 실패 ({}): {}", keyFile, e.getMessage());
+        }
+    }
+
+    private void applyKeyFile(Properties properties) {
+        String activeKid = properties.getProperty(ACTIVE_PROPERTY);
+        Map<String, JwtSigningKey> fileKeys = new LinkedHashMap<>();
+
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PROPERTY_PREFIX)) {
+                continue;
+            }
+            String kid = name.substring(KEY_PROPERTY_PREFIX.length());
+            try {
+                fileKeys.put(kid, JwtSigningKey.hmac(kid, Keys.hmacShaKeyFor(decodeSecret(properties.getProperty(name)))));
+            } catch (WeakKeyException | IllegalArgumentException e) {
+                log.error("❌ JWT 키 {} 무시: {}", kid, e.getMessage());
+            }
+        }
+
+        if (activeKid == null || !fileKeys.containsKey(activeKid)) {
+            throw new IllegalStateException("active 키가 없거나 key." + activeKid + " 항목이 없습니다.");
+        }
+
+        Instant drainUntil = Instant.now().plusSeconds(drainSeconds);
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+
+        // 파일에서 빠진 키는 바로 지우지 않고 드레인
+        for (JwtSigningKey existing : state.keys().values()) {
+            if (!fileKeys.containsKey(existing.kid())) {
+                keys.put(existing.kid(), existing.isRetiring() ? existing : existing.retireAt(drainUntil));
+            }
+        }
+        // 같은 kid 는 키 값이 그대로면 기존 인스턴스를 유지
+        for (JwtSigningKey fileKey : fileKeys.values()) {
+            JwtSigningKey existing = state.keys().get(fileKey.kid());
+            boolean unchanged = existing != null && MessageDigest.isEqual(
+                    existing.signingKey().getEncoded(), fileKey.signingKey().getEncoded());
+            keys.put(fileKey.kid(), unchanged && !existing.isRetiring() ? existing : fileKey);
+        }
+
+        this.state = new State(activeKid, Map.copyOf(keys));
+        log.info("🔑 JWT 키 파일 적용: active={}, keys={}", activeKid, keys.keySet());
+    }
+
+    /**
+     * 드레인 기간이 끝난 키 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.purge-interval:60000}")
+    public void purgeRetiredKeys() {
+        Set<String> removed = new HashSet<>();
+
+        synchronized (this) {
+            State current = state;
+            Instant now = Instant.now();
+            Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+
+            for (JwtSigningKey key : current.keys().values()) {
+                boolean expired = key.isRetiring() && !key.retireAt().isAfter(now);
+                if (expired && !key.kid().equals(current.activeKid())) {
+                    removed.add(key.kid());
+                } else {
+                    keys.put(key.kid(), key);
+                }
+            }
+
+            if (removed.isEmpty()) {
+                return;
+            }
+            this.state = new State(current.activeKid(), Map.copyOf(keys));
+        }
+
+        log.info("🧹 드레인이 끝난 JWT 키 제거: {}", removed);
+        eventPublisher.publishEvent(new JwtKeysRemovedEvent(Set.copyOf(removed)));
+    }
+
+    /**
+     * 관리자 조회용 키 목록 (키 값은 포함하지 않음)
+     */
+    public List<KeyInfo> describe() {
+        State current = state;
+        return current.keys().values().stream()
+                .map(key -> new KeyInfo(
+                        key.kid(),
+                        key.algorithm().getValue(),
+                        key.kid().equals(current.activeKid()),
+                        key.retireAt()))
+                .toList();
+    }
+
+    /**
+     * 공개키 목록 (RFC 7517 JWKS). 드레인 중인 키도 포함해 기존 토큰을 계속 검증할 수 있게 한다
+     *
+     * @return 키 링이 바뀌지 않았으면 같은 인스턴스
+     */
+    public Jwks jwks() {
+        State current = state;
+        Jwks cached = jwksCache;
+        if (cached != null && cached.source() == current) {
+            return cached;
+        }
+
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (JwtSigningKey key : current.keys().values()) {
+            if (key.isAsymmetric() && key.verificationKey() instanceof ECPublicKey publicKey) {
+                Map<String, Object> jwk = new LinkedHashMap<>();
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("kid", key.kid());
+                jwk.put("use", "sig");
+                jwk.put("alg", key.algorithm().getValue());
+                jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+                jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+                keys.add(Collections.unmodifiableMap(jwk));
+            }
+        }
+
+        Map<String, Object> document = Map.of("keys", List.copyOf(keys));
+        Jwks jwks = new Jwks(current, document, "\"" + Integer.toHexString(document.hashCode()) + "\"");
+        jwksCache = jwks;
+        return jwks;
+    }
+
+    /**
+     * ES256 키 쌍 로딩. 경로가 없으면 임시 키를 생성 (재시작하면 바뀌므로 운영에서는 파일 지정)
+     */
+    private JwtSigningKey loadOrGenerateEcKey() {
+        if (ecPrivateKeyPath.isBlank() || ecPublicKeyPath.isBlank()) {
+            log.warn("⚠️ jwt.es256.private-key/public-key 가 없어 임시 EC 키를 생성합니다. 재시작 시 기존 토큰은 무효화됩니다.");
+            return JwtSigningKey.es256(ecKid, Keys.keyPairFor(SignatureAlgorithm.ES256));
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(readPem(ecPrivateKeyPath)));
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(readPem(ecPublicKeyPath)));
+            return JwtSigningKey.es256(ecKid, new KeyPair(publicKey, privateKey));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] readPem(String path) throws IOException {
+        String pem = Files.readString(Path.of(path), StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+
+    /**
+     * EC 좌표를 32바이트 big-endian 으로 맞춘 뒤 Base64URL 인코딩
+     */
+    private static String encodeCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private byte[] decodeSecret(String value) {
+        if (value.startsWith(BASE64_PREFIX)) {
+            return Base64.getDecoder().decode(value.substring(BASE64_PREFIX.length()));
+        }
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String generateKid() {
+        return "k" + Long.toString(Instant.now().getEpochSecond(), 36)
+                + Integer.toString(secureRandom.nextInt(1 << 20), 36);
+    }
+
+    private record State(String activeKid, Map<String, JwtSigningKey> keys) {
+    }
+
+    public record KeyInfo(String kid, String algorithm, boolean active, Instant retireAt) {
+    }
+
+    /**
+     * JWKS 문서, HTTP ETag, 그 문서를 만든 키 링 스냅샷
+     */
+    public record Jwks(Object source, Map<String, Object> document, String etag) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.security.security_demo.security.key;
+
+import java.util.Set;
+
+/**
+ * 드레인이 끝난 키가 키 링에서 제거되었을 때 발행되는 이벤트
+ */
+public record JwtKeysRemovedEvent(Set<String> kids) {
+}
@@ -0,0 +1,49 @@
+package com.example.security.security_demo.security.key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Instant;
+
+/**
+ * 🔑 키 링에 등록된 서명 키 하나
+ *
+ * @param kid             JWT 헤더의 kid 값
+ * @param algorithm       서명 알고리즘
+ * @param signingKey      서명용 키
+ * @param verificationKey 검증용 키 (HMAC 이면 signingKey 와 동일)
+ * @param retireAt        null 이면 사용 중, 값이 있으면 이 시각 이후 키 링에서 제거 (검증 전용)
+ */
+public record JwtSigningKey(
+        String kid,
+        SignatureAlgorithm algorithm,
+        Key signingKey,
+        Key verificationKey,
+        Instant retireAt
+) {
+
+    public static JwtSigningKey hmac(String kid, Key key) {
+        return new JwtSigningKey(kid, SignatureAlgorithm.HS256, key, key, null);
+    }
+
+    public static JwtSigningKey es256(String kid, KeyPair keyPair) {
+        return new JwtSigningKey(kid, SignatureAlgorithm.ES256, keyPair.getPrivate(), keyPair.getPublic(), null);
+    }
+
+    /**
+     * 공개키로 검증 가능한 키인지 (JWKS 로 배포 대상)
+     */
+    public boolean isAsymmetric() {
+        return verificationKey instanceof PublicKey;
+    }
+
+    public boolean isRetiring() {
+        return retireAt != null;
+    }
+
+    public JwtSigningKey retireAt(Instant when) {
+        return new JwtSigningKey(kid, algorithm, signingKey, verificationKey, when);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.security.security_demo.security.key;
+
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * 키 링에 없는 kid 로 서명된 토큰
+ *
+ * 다른 인스턴스에서 막 교체된 키일 수 있으므로 (키 파일 동기화 전),
+ * 위조 토큰과 달리 나중에 다시 검증하면 통과할 수 있다.
+ */
+public class UnknownSigningKeyException extends SignatureException {
+
+    public UnknownSigningKeyException(String kid) {
+        super("알 수 없는 서명 키(kid)입니다: " + kid);
+    }
+}
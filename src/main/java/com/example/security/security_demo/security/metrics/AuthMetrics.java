@@ -0,0 +1,117 @@
+package com.example.security.security_demo.security.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 인증 경로 단계별 메트릭
+ *
+ * 태그 값은 아래 enum 으로만 정해지므로 (username, 경로 등은 태그로 쓰지 않음) 카디널리티가 고정된다.
+ * 모든 Timer/Counter 는 기동 시 미리 등록해 두고, 요청 경로에서는 nanoTime 차이만 기록한다.
+ *
+ * - auth.filter.stage{stage}    : JwtAuthenticationFilter 단계별 소요 시간
+ * - auth.filter.requests{result}: 필터 처리 결과
+ * - auth.login.stage{stage}     : LoginService.login 단계별 소요 시간
+ * - auth.login.attempts{result} : 로그인 결과
+ * - auth.register.stage{stage}  : UserService.register 단계별 소요 시간
+ * - auth.register.attempts{result}
+ */
+@Component
+public class AuthMetrics {
+
+    public enum FilterStage { EXTRACT, PARSE, VALIDATE, PRINCIPAL, CONTEXT }
+
+    public enum FilterResult { AUTHENTICATED, ANONYMOUS, REJECTED, REVOKED, INVALID, UNKNOWN_USER, ERROR }
+
+    public enum LoginStage { THROTTLE, LOOKUP, HASH, SIGN }
+
+    public enum LoginResult { SUCCESS, THROTTLED, UNKNOWN_USER, BAD_PASSWORD, BUSY }
+
+    public enum RegisterStage { LOOKUP, HASH, SAVE }
+
+    public enum RegisterResult { SUCCESS, DUPLICATE, BUSY }
+
+    private final Map<FilterStage, Timer> filterStages;
+    private final Map<FilterResult, Counter> filterResults;
+    private final Map<LoginStage, Timer> loginStages;
+    private final Map<LoginResult, Counter> loginResults;
+    private final Map<RegisterStage, Timer> registerStages;
+    private final Map<RegisterResult, Counter> registerResults;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.filterStages = timers(meterRegistry, FilterStage.class, "auth.filter.stage", "JWT 필터 단계별 소요 시간");
+        this.filterResults = counters(meterRegistry, FilterResult.class, "auth.filter.requests", "JWT 필터 처리 결과");
+        this.loginStages = timers(meterRegistry, LoginStage.class, "auth.login.stage", "로그인 단계별 소요 시간");
+        this.loginResults = counters(meterRegistry, LoginResult.class, "auth.login.attempts", "로그인 결과");
+        this.registerStages = timers(meterRegistry, RegisterStage.class, "auth.register.stage", "회원가입 단계별 소요 시간");
+        this.registerResults = counters(meterRegistry, RegisterResult.class, "auth.register.attempts", "회원가입 결과");
+    }
+
+    /**
+     * startNanos 부터 지금까지를 기록하고 현재 시각을 반환 (다음 단계의 시작 시각으로 사용)
+     */
+    public long record(FilterStage stage, long startNanos) {
+        return record(filterStages.get(stage), startNanos);
+    }
+
+    public long record(LoginStage stage, long startNanos) {
+        return record(loginStages.get(stage), startNanos);
+    }
+
+    public long record(RegisterStage stage, long startNanos) {
+        return record(registerStages.get(stage), startNanos);
+    }
+
+    public void count(FilterResult result) {
+        filterResults.get(result).increment();
+    }
+
+    public void count(LoginResult result) {
+        loginResults.get(result).increment();
+    }
+
+    public void count(RegisterResult result) {
+        registerResults.get(result).increment();
+    }
+
+    private static long record(Timer timer, long startNanos) {
+        long now = System.nanoTime();
+        timer.record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private static <E extends Enum<E>> Map<E, Timer> timers(MeterRegistry registry, Class<E> type,
+                                                             String name, String description) {
+        Map<E, Timer> timers = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            timers.put(value, Timer.builder(name)
+                    .description(description)
+                    .tag("stage", tagValue(value))
+                    .register(registry));
+        }
+        return timers;
+    }
+
+    private static <E extends Enum<E>> Map<E, Counter> counters(MeterRegistry registry, Class<E> type,
+                                                                 String name, String description) {
+        Map<E, Counter> counters = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counters.put(value, Counter.builder(name)
+                    .description(description)
+                    .tag("result", tagValue(value))
+                    .register(registry));
+        }
+        return counters;
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
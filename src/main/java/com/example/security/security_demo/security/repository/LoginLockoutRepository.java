@@ -0,0 +1,20 @@
+package com.example.security.security_demo.security.repository;
+
+import com.example.security.security_demo.security.domain.LoginLockout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface LoginLockoutRepository extends JpaRepository<LoginLockout, String> {
+
+    // 기동 시 최근 잠금 이력 로딩 (level 유지용)
+    List<LoginLockout> findByUpdatedAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM LoginLockout l WHERE l.updatedAt < :before")
+    int deleteStale(@Param("before") Instant before);
+}
@@ -0,0 +1,23 @@
+package com.example.security.security_demo.security.repository;
+
+import com.example.security.security_demo.security.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 기동 시 아직 만료되지 않은 폐기 목록 로딩
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    // 다른 인스턴스에서 추가된 폐기 목록 동기화
+    List<RevokedToken> findByRevokedAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
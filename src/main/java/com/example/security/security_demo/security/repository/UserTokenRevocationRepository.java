@@ -0,0 +1,23 @@
+package com.example.security.security_demo.security.repository;
+
+import com.example.security.security_demo.security.domain.UserTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, String> {
+
+    // 기동 시 아직 유효한 사용자 단위 폐기 로딩
+    List<UserTokenRevocation> findByExpiresAtAfter(Instant now);
+
+    // 다른 인스턴스에서 추가된 폐기 동기화
+    List<UserTokenRevocation> findByRevokedAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM UserTokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,160 @@
+package com.example.security.security_demo.security.service;
+
+import com.example.security.security_demo.security.domain.LoginLockout;
+import com.example.security.security_demo.security.repository.LoginLockoutRepository;
+import com.example.security.security_demo.security.util.StripedRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🛡️ 로그인 무차별 대입 방어 (BCrypt 비교 이전 단계)
+ *
+ * 실패한 로그인도 매번 BCrypt 비교 비용을 치르므로, 크리덴셜 스터핑은 곧 CPU DoS 가 된다.
+ * DB 조회/해싱 전에 username · IP 별 토큰 버킷을 확인해 공격 트래픽을 배열 조회 몇 번으로 걸러낸다.
+ *
+ * - 버킷: {@link StripedRateLimiter} (고정 메모리, 락 없음, 시간이 지나면 자동 회복)
+ * - 점진적 잠금(옵션): username 버킷이 바닥날 때마다 잠금 시간을 두 배로 늘리고 Postgres 에 기록
+ *   (존재하는 사용자만 기록하므로 메모리/DB 사용량은 사용자 수를 넘지 않음)
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private final LoginLockoutRepository loginLockoutRepository;
+    private final StripedRateLimiter usernameLimiter;
+    private final StripedRateLimiter ipLimiter;
+    private final boolean lockoutEnabled;
+    private final Duration lockoutBase;
+    private final Duration lockoutMax;
+    private final Duration lockoutResetAfter;
+
+    private final Map<String, LoginLockout> lockouts = new ConcurrentHashMap<>();
+
+    public LoginThrottleService(LoginLockoutRepository loginLockoutRepository,
+                                @Value("${security.login-throttle.stripes:65536}") int stripes,
+                                @Value("${security.login-throttle.username.capacity:5}") int usernameCapacity,
+                                @Value("${security.login-throttle.username.refill-seconds:60}") long usernameRefillSeconds,
+                                @Value("${security.login-throttle.ip.capacity:50}") int ipCapacity,
+                                @Value("${security.login-throttle.ip.refill-seconds:6}") long ipRefillSeconds,
+                                @Value("${security.login-throttle.lockout.enabled:true}") boolean lockoutEnabled,
+                                @Value("${security.login-throttle.lockout.base-seconds:60}") long lockoutBaseSeconds,
+                                @Value("${security.login-throttle.lockout.max-seconds:3600}") long lockoutMaxSeconds,
+                                @Value("${security.login-throttle.lockout.reset-after-seconds:86400}") long lockoutResetAfterSeconds) {
+        this.loginLockoutRepository = loginLockoutRepository;
+        this.usernameLimiter = new StripedRateLimiter(stripes, usernameCapacity, usernameRefillSeconds, TimeUnit.SECONDS);
+        this.ipLimiter = new StripedRateLimiter(stripes, ipCapacity, ipRefillSeconds, TimeUnit.SECONDS);
+        this.lockoutEnabled = lockoutEnabled;
+        this.lockoutBase = Duration.ofSeconds(lockoutBaseSeconds);
+        this.lockoutMax = Duration.ofSeconds(lockoutMaxSeconds);
+        this.lockoutResetAfter = Duration.ofSeconds(lockoutResetAfterSeconds);
+    }
+
+    /**
+     * 기동 시 최근 잠금 이력 로딩 (잠금 단계를 이어가기 위해)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!lockoutEnabled) {
+            return;
+        }
+        List<LoginLockout> recent = loginLockoutRepository.findByUpdatedAtAfter(Instant.now().minus(lockoutResetAfter));
+        recent.forEach(lockout -> lockouts.put(lockout.getUsername(), lockout));
+        log.info("🛡️ 로그인 잠금 이력 {}건 로딩", recent.size());
+    }
+
+    /**
+     * 로그인 시도 전 확인 (DB 조회/해싱 없음)
+     *
+     * @return 거절해야 하면 재시도까지 남은 초, 허용이면 0
+     */
+    public long retryAfterSeconds(String username, String clientIp) {
+        long waitNanos = usernameLimiter.retryAfterNanos(username);
+        if (clientIp != null) {
+            waitNanos = Math.max(waitNanos, ipLimiter.retryAfterNanos(clientIp));
+        }
+        long waitSeconds = waitNanos > 0 ? Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos)) : 0L;
+
+        if (lockoutEnabled && !lockouts.isEmpty()) {
+            LoginLockout lockout = lockouts.get(username);
+            if (lockout != null) {
+                long lockedSeconds = Duration.between(Instant.now(), lockout.getLockedUntil()).toSeconds();
+                waitSeconds = Math.max(waitSeconds, lockedSeconds > 0 ? lockedSeconds : 0L);
+            }
+        }
+        return waitSeconds;
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param knownUser 실제 존재하는 사용자인지 (존재하는 사용자만 잠금 이력을 남김)
+     */
+    public void recordFailure(String username, String clientIp, boolean knownUser) {
+        if (clientIp != null) {
+            ipLimiter.consume(clientIp);
+        }
+        boolean exhausted = usernameLimiter.consume(username);
+        if (exhausted && knownUser && lockoutEnabled) {
+            escalateLockout(username);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 잠금 이력 초기화
+     * (버킷은 다른 username 과 공유될 수 있으므로 비우지 않고 시간 경과로 회복)
+     */
+    public void recordSuccess(String username) {
+        if (lockoutEnabled && lockouts.remove(username) != null) {
+            loginLockoutRepository.deleteById(username);
+        }
+    }
+
+    /**
+     * 오래된 잠금 이력 정리
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.lockout.purge-interval:600000}")
+    @Transactional
+    public void purgeStale() {
+        if (!lockoutEnabled) {
+            return;
+        }
+        Instant before = Instant.now().minus(lockoutResetAfter);
+        lockouts.values().removeIf(lockout -> lockout.getUpdatedAt().isBefore(before));
+        int deleted = loginLockoutRepository.deleteStale(before);
+        if (deleted > 0) {
+            log.info("🧹 오래된 로그인 잠금 이력 {}건 정리", deleted);
+        }
+    }
+
+    private void escalateLockout(String username) {
+        Instant now = Instant.now();
+        LoginLockout updated = lockouts.compute(username, (key, previous) -> {
+            int level = previous == null ? 1 : Math.min(previous.getLevel() + 1, 30);
+            Duration duration = lockoutBase.multipliedBy(1L << Math.min(level - 1, 20));
+            if (duration.compareTo(lockoutMax) > 0) {
+                duration = lockoutMax;
+            }
+            return LoginLockout.builder()
+                    .username(key)
+                    .level(level)
+                    .lockedUntil(now.plus(duration))
+                    .updatedAt(now)
+                    .build();
+        });
+
+        loginLockoutRepository.save(updated);
+        log.warn("🔒 로그인 잠금: {} (단계 {}, {}까지)", username, updated.getLevel(), updated.getLockedUntil());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.security.security_demo.security.service;
+
+import com.example.security.security_demo.security.domain.RefreshToken;
+import com.example.security.security_demo.security.repository.RefreshTokenRepository;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.user.domain.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 🔄 리프레시 토큰 발급/교체
+ *
+ * 액세스 토큰 재발급 시 BCrypt 없이 SHA-256 비교 한 번으로 끝나도록,
+ * 리프레시 토큰은 랜덤 256bit 값을 발급하고 DB 에는 다이제스트만 저장한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:1209600}") long refreshExpirationSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationSeconds = refreshExpirationSeconds;
+    }
+
+    /**
+     * 새 로그인에 대한 리프레시 토큰 발급 (새 family 시작)
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 교체 - 기존 토큰은 사용 처리하고 같은 family 로 새 토큰 발급
+     *
+     * @return 재사용/만료/폐기된 토큰이면 empty
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashWithUser(TokenDigests.sha256(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        Instant now = Instant.now();
+
+        if (!current.getExpiresAt().isAfter(now)) {
+            return Optional.empty();
+        }
+
+        if (current.isRevoked() || refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            // 이미 사용된 토큰이 다시 들어옴 → 탈취 가능성, family 전체 폐기
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("⚠️ 리프레시 토큰 재사용 감지 - family 폐기: user={}, family={}",
+                    current.getUser().getUsername(), current.getFamilyId());
+            return Optional.empty();
+        }
+
+        User user = current.getUser();
+        List<String> roles = user.getUserRoles().stream()
+                .map(ur -> ur.getRole().getName())
+                .toList();
+
+        String next = issue(user, current.getFamilyId());
+        return Optional.of(new Rotation(user.getUsername(), roles, next));
+    }
+
+    /**
+     * 로그아웃 시 해당 리프레시 토큰의 family 전체 폐기
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(TokenDigests.sha256(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 사용자의 리프레시 토큰 전체 삭제 (사용자 삭제 시)
+     */
+    @Transactional
+    public int deleteAllForUser(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("🧹 만료된 리프레시 토큰 {}건 정리", deleted);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigests.sha256(rawToken))
+                .user(user)
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(refreshExpirationSeconds))
+                .revoked(false)
+                .build());
+
+        return rawToken;
+    }
+
+    /**
+     * 교체 결과 (새 액세스 토큰 생성에 필요한 정보 + 새 리프레시 토큰)
+     */
+    public record Rotation(String username, List<String> roles, String refreshToken) {
+    }
+}
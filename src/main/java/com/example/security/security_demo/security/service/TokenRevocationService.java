@@ -0,0 +1,216 @@
+package com.example.security.security_demo.security.service;
+
+import com.example.security.security_demo.security.domain.RevokedToken;
+import com.example.security.security_demo.security.domain.UserTokenRevocation;
+import com.example.security.security_demo.security.repository.RevokedTokenRepository;
+import com.example.security.security_demo.security.repository.UserTokenRevocationRepository;
+import com.example.security.security_demo.security.util.ConcurrentBloomFilter;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🚫 jti 기반 토큰 폐기 (로그아웃 / 관리자 강제 만료)
+ *
+ * 요청 경로의 비용을 0 에 가깝게 유지하기 위해 두 단계로 확인한다.
+ * 1) Bloom filter: "확실히 폐기되지 않음" 을 락 없이 O(1) 로 판단 (대부분의 토큰은 여기서 끝)
+ * 2) 메모리 denylist: Bloom 이 "있을 수도 있음" 이라고 할 때만 확인
+ *
+ * 원본은 Postgres(revoked_tokens) 에 저장되어 기동 시 다시 로딩되며,
+ * 다른 인스턴스에서 폐기한 토큰은 주기적으로 동기화한다.
+ *
+ * 사용자 단위 폐기(user_token_revocations)는 사용자 삭제 / 역할 변경 시 기록하며,
+ * 그 시각 이전에 발급된 해당 사용자의 토큰을 모두 폐기된 것으로 본다.
+ * 발급 시각은 ms 단위 claim 으로 비교하므로 폐기 직후 재발급된 토큰은 같은 초라도 유효하다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenRevocationRepository userTokenRevocationRepository;
+    private final long expectedRevocations;
+    private final long maxTokenLifetimeSeconds;
+    private final double falsePositiveRate;
+
+    private final Map<String, Instant> denylist = new ConcurrentHashMap<>();
+    private final Map<String, UserEpoch> userEpochs = new ConcurrentHashMap<>();
+    private volatile ConcurrentBloomFilter bloomFilter;
+    private Instant lastSyncedAt = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserTokenRevocationRepository userTokenRevocationRepository,
+                                  @Value("${jwt.revocation.expected-size:100000}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${jwt.expiration:86400}") long maxTokenLifetimeSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenRevocationRepository = userTokenRevocationRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.maxTokenLifetimeSeconds = maxTokenLifetimeSeconds;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = ConcurrentBloomFilter.create(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * 기동 시 아직 유효한 폐기 목록 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadOnStartup() {
+        Instant now = Instant.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(now);
+        revoked.forEach(token -> denylist.put(token.getJti(), token.getExpiresAt()));
+        List<UserTokenRevocation> userRevocations = userTokenRevocationRepository.findByExpiresAtAfter(now);
+        userRevocations.forEach(this::addUserEpoch);
+        lastSyncedAt = now;
+        rebuildBloomFilter();
+        log.info("🚫 폐기 토큰 {}건, 사용자 단위 폐기 {}건 로딩", revoked.size(), userRevocations.size());
+    }
+
+    /**
+     * 요청 경로용 폐기 여부 확인 (폐기되지 않은 토큰은 Bloom filter 에서 바로 false)
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!userEpochs.isEmpty() && isRevokedByUser(token)) {
+            return true;
+        }
+        String jti = token.tokenId();
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return denylist.containsKey(jti);
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param expiresAt 토큰 만료 시각 (이후에는 폐기 기록이 필요 없음)
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (expiresAt == null || !expiresAt.isAfter(now)) {
+            return; // 이미 만료된 토큰은 기록할 필요 없음
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .revokedAt(now)
+                .build());
+
+        addToMemory(jti, expiresAt);
+        log.info("🚫 토큰 폐기: jti={}", jti);
+    }
+
+    /**
+     * 사용자 단위 폐기 - 지금까지 발급된 해당 사용자의 액세스 토큰을 모두 무효화 (삭제 / 역할 변경)
+     */
+    @Transactional
+    public void revokeUser(String username) {
+        Instant now = Instant.now();
+        UserTokenRevocation revocation = userTokenRevocationRepository.save(UserTokenRevocation.builder()
+                .username(username)
+                .revokedAt(now.truncatedTo(ChronoUnit.MILLIS))
+                .expiresAt(now.plusSeconds(maxTokenLifetimeSeconds))
+                .build());
+
+        addUserEpoch(revocation);
+        log.info("🚫 사용자 토큰 전체 폐기: username={}", username);
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 폐기 목록 동기화
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:30000}")
+    public void syncFromDatabase() {
+        Instant since;
+        synchronized (this) {
+            since = lastSyncedAt;
+        }
+        // 인스턴스 간 시계 차이를 감안해 조금 겹치게 조회
+        Instant now = Instant.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByRevokedAtAfter(since.minus(Duration.ofMinutes(1)));
+        List<UserTokenRevocation> userRevocations =
+                userTokenRevocationRepository.findByRevokedAtAfter(since.minus(Duration.ofMinutes(1)));
+
+        synchronized (this) {
+            userRevocations.forEach(this::addUserEpoch);
+            for (RevokedToken token : revoked) {
+                if (token.getExpiresAt().isAfter(now)) {
+                    addToMemory(token.getJti(), token.getExpiresAt());
+                }
+            }
+            lastSyncedAt = now;
+        }
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 + Bloom filter 재구성 (삭제를 반영하기 위해)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:600000}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        userTokenRevocationRepository.deleteExpired(now);
+
+        synchronized (this) {
+            denylist.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+            userEpochs.values().removeIf(epoch -> !epoch.expiresAt().isAfter(now));
+            rebuildBloomFilter();
+        }
+
+        if (deleted > 0) {
+            log.info("🧹 만료된 폐기 토큰 {}건 정리", deleted);
+        }
+    }
+
+    public int size() {
+        return denylist.size();
+    }
+
+    // denylist 를 먼저 채운 뒤 Bloom 에 추가 (쓰기는 드물어서 동기화, 읽기는 락 없음)
+    private synchronized void addToMemory(String jti, Instant expiresAt) {
+        denylist.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    private boolean isRevokedByUser(VerifiedToken token) {
+        if (token.subject() == null) {
+            return false;
+        }
+        UserEpoch epoch = userEpochs.get(token.subject());
+        // iat 가 없으면 발급 시각을 알 수 없으므로 폐기된 것으로 본다
+        // (ms claim 이 없는 이전 토큰은 초 단위로 잘린 iat 라서 같은 초 발급분도 폐기 쪽으로 판단)
+        return epoch != null && (token.issuedAt() == null || !token.issuedAt().isAfter(epoch.revokedAt()));
+    }
+
+    // 같은 사용자가 여러 번 폐기되면 가장 늦은 시각 유지
+    private void addUserEpoch(UserTokenRevocation revocation) {
+        UserEpoch epoch = new UserEpoch(revocation.getRevokedAt(), revocation.getExpiresAt());
+        userEpochs.merge(revocation.getUsername(), epoch,
+                (current, added) -> added.revokedAt().isAfter(current.revokedAt()) ? added : current);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        long capacity = Math.max(expectedRevocations, denylist.size() * 2L);
+        ConcurrentBloomFilter rebuilt = ConcurrentBloomFilter.create(capacity, falsePositiveRate);
+        denylist.keySet().forEach(rebuilt::put);
+        this.bloomFilter = rebuilt;
+    }
+
+    private record UserEpoch(Instant revokedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.security.security_demo.security.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * ⏱️ 호스트 성능에 맞춰 BCrypt cost 결정
+ *
+ * 기준 cost 에서 해싱 시간을 측정하고, cost 가 1 오를 때마다 시간이 두 배가 되는 성질로
+ * 목표 지연 시간을 넘지 않는 가장 높은 cost 를 고른다. (높은 cost 를 직접 돌려보면 기동이 느려짐)
+ */
+@Slf4j
+public final class BCryptCostTuner {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCostTuner() {
+    }
+
+    public static int tune(long targetLatencyMillis) {
+        BCryptPasswordEncoder baseline = new BCryptPasswordEncoder(MIN_STRENGTH);
+        baseline.encode("warm-up"); // JIT 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            baseline.encode("benchmark-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double baselineMillis = best / 1_000_000.0;
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && baselineMillis * (1L << (strength + 1 - MIN_STRENGTH)) <= targetLatencyMillis) {
+            strength++;
+        }
+
+        log.debug("⏱️ BCrypt cost {} 기준 {}ms, 목표 {}ms → cost {}",
+                MIN_STRENGTH, String.format("%.1f", baselineMillis), targetLatencyMillis, strength);
+        return strength;
+    }
+}
@@ -1,60 +1,118 @@
 package com.example.security.security_demo.security.util;// src/main/java/com/example/security/security_demo/config/JwtTokenUtil.java
 
+import com.example.security.security_demo.security.key.JwtKeyRing;
+import com.example.security.security_demo.security.key.JwtSigningKey;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenUtil {
 
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGeneration}")
-    private String secret;
+    public static final String ROLES_CLAIM = "rol";
+    // 표준 iat 는 초 단위라 사용자 단위 폐기 시각과 같은 초에 발급된 토큰을 구분할 수 없어 ms 단위로 따로 기록
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
 
     @Value("${jwt.expiration:86400}") // 24시간 (초 단위)
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 🏷️ 토큰에 역할 claim 을 넣고 필터가 DB 없이 권한을 구성하는 모드 (기본 off)
+    @Value("${jwt.role-claims.enabled:false}")
+    private boolean roleClaimsEnabled;
+
+    private final JwtKeyRing jwtKeyRing;
+
+    // 🔑 파서는 불변·스레드 안전하므로 기동 시 한 번만 만들어 재사용 (검증 키는 kid 로 키 링에서 조회)
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(jwtKeyRing)
+                .build();
     }
 
     /**
      * JWT 토큰 생성
      */
     public String generateToken(String username) {
+        return generateToken(username, List.of());
+    }
+
+    /**
+     * 역할 claim 포함 JWT 토큰 생성 (jwt.role-claims.enabled 일 때만 역할을 넣음)
+     */
+    public String generateToken(String username, Collection<String> roles) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration * 1000);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti - 토큰 폐기용
                 .setSubject(username)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
+                .setExpiration(expiryDate);
+
+        if (roleClaimsEnabled && !roles.isEmpty()) {
+            builder.claim(ROLES_CLAIM, RoleAuthorities.toClaim(roles));
+        }
+
+        JwtSigningKey signingKey = jwtKeyRing.activeKey();
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
+    public boolean isRoleClaimsEnabled() {
+        return roleClaimsEnabled;
+    }
+
+    /**
+     * 토큰 검증 (서명 + 만료) 을 한 번의 파싱으로 수행
+     *
+     * @throws JwtException             서명 불일치, 만료, 형식 오류
+     * @throws IllegalArgumentException 토큰이 비어있는 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                issuedAt(claims),
+                RoleAuthorities.fromClaim(claims.get(ROLES_CLAIM)),
+                claims
+        );
+    }
+
     /**
      * 토큰에서 사용자명 추출
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
+        return verify(token).subject();
     }
 
     /**
      * 토큰 유효성 검증
+     *
+     * 만료 여부는 파싱 단계(parseClaimsJws)에서 이미 확인된다.
      */
     public boolean validateToken(String token, String username) {
         try {
-            String tokenUsername = getUsernameFromToken(token);
-            return (username.equals(tokenUsername) && !isTokenExpired(token));
+            return username.equals(verify(token).subject());
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+            log.debug("JWT 토큰 검증 실패: {}", e.getMessage());
             return false;
         }
     }
@@ -75,14 +133,22 @@ public class JwtTokenUtil {
         return claims.getExpiration();
     }
 
+    /**
+     * 발급 시각 (ms claim 이 있으면 그 값, 이전에 발급된 토큰은 초 단위 iat)
+     */
+    private static Instant issuedAt(Claims claims) {
+        if (claims.get(ISSUED_AT_MILLIS_CLAIM) instanceof Number millis) {
+            return Instant.ofEpochMilli(millis.longValue());
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+
     /**
      * 토큰에서 Claims 추출
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-}
\ No newline at end of file
+}
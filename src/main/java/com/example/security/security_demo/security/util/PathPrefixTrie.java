@@ -0,0 +1,107 @@
+package com.example.security.security_demo.security.util;
+
+import java.util.Arrays;
+
+/**
+ * 🌲 HTTP 메서드 + 경로 매칭용 prefix trie (기동 시 한 번 구성, 이후 읽기 전용)
+ *
+ * 지원하는 패턴은 두 가지뿐이다.
+ * - 정확히 일치: "/auth/login"
+ * - 하위 경로 전체: "/api/ai/**" ("/api/ai" 와 "/api/ai/..." 모두 일치, "/api/aix" 는 불일치)
+ *
+ * 요청마다 경로 문자열을 한 번만 훑고 객체를 만들지 않는다.
+ */
+public final class PathPrefixTrie {
+
+    private static final int ANY_METHOD = -1;
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private final Node root = new Node();
+
+    /**
+     * 패턴 등록
+     *
+     * @param method HTTP 메서드 (null 이면 모든 메서드)
+     */
+    public PathPrefixTrie add(String method, String pattern) {
+        boolean prefix = pattern.endsWith(PREFIX_SUFFIX);
+        String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_SUFFIX.length()) : pattern;
+        if (path.indexOf('*') >= 0 || path.indexOf('{') >= 0) {
+            throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+        }
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrCreate(path.charAt(i));
+        }
+
+        int bits = method == null ? ANY_METHOD : methodBit(method);
+        if (prefix) {
+            node.prefixMethods |= bits;
+        } else {
+            node.exactMethods |= bits;
+        }
+        return this;
+    }
+
+    public boolean matches(String method, String path) {
+        int bit = methodBit(method);
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' && (node.prefixMethods & bit) != 0) {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+        return ((node.exactMethods | node.prefixMethods) & bit) != 0;
+    }
+
+    private static int methodBit(String method) {
+        return switch (method) {
+            case "GET" -> 1;
+            case "HEAD" -> 1 << 1;
+            case "POST" -> 1 << 2;
+            case "PUT" -> 1 << 3;
+            case "PATCH" -> 1 << 4;
+            case "DELETE" -> 1 << 5;
+            case "OPTIONS" -> 1 << 6;
+            case "TRACE" -> 1 << 7;
+            default -> 1 << 30; // 알 수 없는 메서드는 "모든 메서드" 패턴에만 일치
+        };
+    }
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int exactMethods;
+        private int prefixMethods;
+
+        private Node child(char c) {
+            char[] keys = labels;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.security.security_demo.security.util;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🏷️ 역할 이름 ↔ GrantedAuthority 변환 (인턴된 인스턴스 재사용)
+ *
+ * 역할 조합은 손에 꼽을 만큼 적으므로, 요청마다 SimpleGrantedAuthority 와
+ * 리스트를 새로 만들지 않고 미리 만든 불변 리스트를 돌려준다.
+ */
+public final class RoleAuthorities {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    /** 역할 claim 이 없는 토큰에 부여하는 기본 권한 */
+    public static final List<GrantedAuthority> DEFAULT_USER =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    // 비정상적으로 많은 조합이 들어와도 메모리가 무한히 늘지 않도록 제한
+    private static final int MAX_INTERNED = 256;
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<List<String>, List<GrantedAuthority>> AUTHORITY_LISTS = new ConcurrentHashMap<>();
+
+    static {
+        AUTHORITIES.put("ROLE_USER", DEFAULT_USER.get(0));
+        AUTHORITY_LISTS.put(List.of("ROLE_USER"), DEFAULT_USER);
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * "ROLE_ADMIN" 형태의 역할 목록을 권한 리스트로 변환
+     */
+    public static List<GrantedAuthority> of(List<String> roles) {
+        List<GrantedAuthority> cached = AUTHORITY_LISTS.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(authority(role));
+        }
+        List<GrantedAuthority> result = List.copyOf(authorities);
+
+        if (AUTHORITY_LISTS.size() < MAX_INTERNED) {
+            AUTHORITY_LISTS.putIfAbsent(List.copyOf(roles), result);
+        }
+        return result;
+    }
+
+    /**
+     * "ROLE_ADMIN" → "ADMIN" (토큰에 넣는 축약형)
+     */
+    public static List<String> toClaim(Collection<String> roles) {
+        return roles.stream()
+                .map(role -> role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * "ADMIN" → "ROLE_ADMIN" (claim 값 복원)
+     */
+    public static List<String> fromClaim(Object claim) {
+        if (!(claim instanceof Collection<?> values)) {
+            return List.of();
+        }
+        List<String> roles = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                String name = value.toString();
+                roles.add(name.startsWith(ROLE_PREFIX) ? name : ROLE_PREFIX + name);
+            }
+        }
+        return List.copyOf(roles);
+    }
+
+    /**
+     * string_agg 로 모은 "ROLE_ADMIN,ROLE_USER" 컬럼 값을 역할 목록으로 변환 (역할이 없어 null 이면 빈 목록)
+     */
+    public static List<String> splitAggregated(String roles) {
+        return roles == null || roles.isEmpty() ? List.of() : List.of(roles.split(","));
+    }
+
+    private static GrantedAuthority authority(String role) {
+        GrantedAuthority authority = AUTHORITIES.get(role);
+        if (authority != null) {
+            return authority;
+        }
+        authority = new SimpleGrantedAuthority(role);
+        if (AUTHORITIES.size() < MAX_INTERNED) {
+            GrantedAuthority existing = AUTHORITIES.putIfAbsent(role, authority);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return authority;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.security.security_demo.security.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 🪣 고정 메모리 · 락 없는 토큰 버킷 (GCRA 방식)
+ *
+ * 키마다 "이론상 다음 도착 시각(TAT)" 하나만 long 으로 저장하고, 키는 해시로 고정 개수의
+ * 스트라이프에 매핑한다. 시간이 지나면 자연히 토큰이 회복되므로 별도 정리 작업이 필요 없고,
+ * 해시 충돌 시에는 같은 버킷을 공유해 더 보수적으로 동작할 뿐이다.
+ *
+ * - capacity: 연속으로 허용하는 실패 횟수
+ * - refillInterval: 토큰 하나가 회복되는 시간
+ */
+public final class StripedRateLimiter {
+
+    private final AtomicLongArray theoreticalArrival;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long origin = System.nanoTime();
+
+    public StripedRateLimiter(int stripes, int capacity, long refillInterval, TimeUnit unit) {
+        int size = Integer.highestOneBit(Math.max(2, stripes - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.intervalNanos = unit.toNanos(refillInterval);
+        this.toleranceNanos = intervalNanos * Math.max(1, capacity);
+    }
+
+    /**
+     * 토큰이 남아있는지 (소비하지 않음)
+     */
+    public boolean tryAcquirePermit(String key) {
+        return retryAfterNanos(key) == 0;
+    }
+
+    /**
+     * 다시 시도할 수 있을 때까지 남은 시간 (0 이면 바로 가능)
+     */
+    public long retryAfterNanos(String key) {
+        long now = now();
+        long tat = Math.max(theoreticalArrival.get(index(key)), now);
+        return Math.max(0L, tat - now - (toleranceNanos - intervalNanos));
+    }
+
+    /**
+     * 토큰 하나 소비 (실패 기록)
+     *
+     * @return 소비 후 버킷이 비었으면 true
+     */
+    public boolean consume(String key) {
+        int index = index(key);
+        long now = now();
+        long current;
+        long next;
+        do {
+            current = theoreticalArrival.get(index);
+            next = Math.max(current, now) + intervalNanos;
+        } while (!theoreticalArrival.compareAndSet(index, current, next));
+        return next - now > toleranceNanos - intervalNanos;
+    }
+
+    private long now() {
+        // origin 기준 경과 시간이라 항상 0 이상 (초기값 0 = 가득 찬 버킷)
+        return System.nanoTime() - origin;
+    }
+
+    private int index(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+}
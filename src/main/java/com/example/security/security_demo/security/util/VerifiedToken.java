@@ -0,0 +1,51 @@
+package com.example.security.security_demo.security.util;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 JWT 의 불변 스냅샷
+ *
+ * JwtTokenUtil.verify() 가 토큰을 한 번만 파싱한 결과를 담아 두고,
+ * 필터/서비스는 이 값만 보고 subject, 만료 시각 등을 판단한다.
+ */
+public record VerifiedToken(
+        String subject,
+        Instant expiresAt,
+        Instant issuedAt,
+        List<String> roles,
+        Map<String, Object> claims
+) {
+
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+        claims = claims == null
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    /**
+     * 토큰 고유 ID (jti). 폐기 기능 이전에 발급된 토큰은 null
+     */
+    public String tokenId() {
+        Object jti = claims.get("jti");
+        return jti != null ? jti.toString() : null;
+    }
+
+    /**
+     * 역할 claim 포함 여부 (DB 조회 없는 인가 모드에서 사용)
+     */
+    public boolean hasRoleClaim() {
+        return !roles.isEmpty();
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -1,17 +1,27 @@
 package com.example.security.security_demo.user.controller;
 
+import com.example.security.security_demo.security.exception.PasswordHashingBusyException;
+import com.example.security.security_demo.user.dto.request.IntrospectBatchRequest;
 import com.example.security.security_demo.user.dto.request.LoginRequest;
+import com.example.security.security_demo.user.dto.request.RefreshRequest;
 import com.example.security.security_demo.user.dto.request.SignupRequest;
 import com.example.security.security_demo.user.dto.response.ApiResponse;
 import com.example.security.security_demo.user.dto.response.LoginResponse;
 import com.example.security.security_demo.user.service.LoginService;
+import com.example.security.security_demo.user.service.TokenIntrospectionService;
 import com.example.security.security_demo.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -22,6 +32,7 @@ public class AuthController {
 
     private final UserService userService;
     private final LoginService loginService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     /**
      * 회원가입
@@ -32,6 +43,8 @@ public class AuthController {
         try {
             userService.register(request.getUsername(), request.getPassword());
             return ResponseEntity.ok(ApiResponse.success("회원가입 성공!"));
+        } catch (PasswordHashingBusyException e) {
+            return serviceUnavailable(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
@@ -47,27 +60,35 @@ public class AuthController {
      */
     @Operation(summary = "로그인", description = "username/password 검증 후 JWT 반환")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
             LoginService.LoginResult result = loginService.login(
                     request.getUsername(),
-                    request.getPassword()
+                    request.getPassword(),
+                    httpRequest.getRemoteAddr()
             );
 
             if (result.isSuccess()) {
                 LoginResponse loginResponse = LoginResponse.success(
                         result.getUser().getUsername(),
-                        result.getToken()
+                        result.getToken(),
+                        result.getRefreshToken()
                 );
 
                 return ResponseEntity.ok(
                         ApiResponse.success("로그인 성공", loginResponse)
                 );
+            } else if (result.isThrottled()) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(result.getRetryAfterSeconds()))
+                        .body(ApiResponse.error("❌ " + result.getMessage()));
             } else {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.error("❌ " + result.getMessage()));
             }
 
+        } catch (PasswordHashingBusyException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             log.error("로그인 처리 중 오류 발생", e);
             return ResponseEntity.badRequest()
@@ -75,18 +96,44 @@ public class AuthController {
         }
     }
 
+    /**
+     * 액세스 토큰 재발급
+     */
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰 + 리프레시 토큰 발급 (비밀번호 불필요)")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse> refresh(@RequestBody RefreshRequest request) {
+        LoginService.LoginResult result = loginService.refresh(request.getRefreshToken());
+
+        if (result.isSuccess()) {
+            LoginResponse loginResponse = LoginResponse.success(
+                    result.getUsername(),
+                    result.getToken(),
+                    result.getRefreshToken()
+            );
+            return ResponseEntity.ok(ApiResponse.success("토큰 재발급 성공", loginResponse));
+        } else {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("❌ " + result.getMessage()));
+        }
+    }
+
     /**
      * 현재 사용자 정보 조회
      */
     @Operation(summary = "내 정보 조회", description = "헤더의 JWT 토큰으로 현재 사용자 정보 반환")
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse> me(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse> me(@RequestHeader("Authorization") String authHeader, WebRequest webRequest) {
         LoginService.AuthResult result = loginService.getCurrentUser(authHeader);
 
         if (result.isSuccess()) {
-            return ResponseEntity.ok(
-                    ApiResponse.success("사용자 정보 조회 성공", result.getData())
-            );
+            // If-None-Match 가 같으면 304 (본문 없음)
+            if (webRequest.checkNotModified(result.getEtag())) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(result.getEtag())
+                    .body(ApiResponse.success("사용자 정보 조회 성공", result.getData()));
         } else {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("❌ " + result.getMessage()));
@@ -108,4 +155,54 @@ public class AuthController {
                     .body(ApiResponse.error("❌ " + result.getMessage()));
         }
     }
+
+    /**
+     * 토큰 일괄 검증 (게이트웨이용, ROLE_GATEWAY 서비스 계정만)
+     *
+     * 다른 사용자의 subject / 만료 시각이 드러나므로 일반 사용자에게는 열지 않는다.
+     */
+    @Operation(summary = "토큰 일괄 검증", description = "여러 토큰의 상태 · subject · 만료 시각을 요청 순서대로 반환 (ROLE_GATEWAY 필요)")
+    @PostMapping("/introspect/batch")
+    @PreAuthorize("hasRole('GATEWAY')")
+    public ResponseEntity<ApiResponse> introspectBatch(@RequestBody IntrospectBatchRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(
+                    "토큰 검증 완료",
+                    tokenIntrospectionService.introspect(request.getTokens())
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("❌ " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 로그아웃 (현재 토큰 폐기)
+     */
+    @Operation(summary = "로그아웃", description = "헤더의 JWT 토큰을 폐기 (본문에 리프레시 토큰을 주면 함께 폐기)")
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse> logout(@RequestHeader("Authorization") String authHeader,
+                                              @RequestBody(required = false) RefreshRequest request) {
+        LoginService.AuthResult result = loginService.logout(
+                authHeader,
+                request != null ? request.getRefreshToken() : null
+        );
+
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(ApiResponse.success("✅ " + result.getMessage()));
+        } else {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("❌ " + result.getMessage()));
+        }
+    }
+
+    /**
+     * 비밀번호 해싱 큐 포화 시 503 + Retry-After
+     */
+    private ResponseEntity<ApiResponse> serviceUnavailable(PasswordHashingBusyException e) {
+        log.warn("비밀번호 해싱 큐 포화 - 요청 거절");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error("❌ " + e.getMessage()));
+    }
 }
@@ -2,19 +2,33 @@
 
 package com.example.security.security_demo.user.controller;
 
-import com.example.security.security_demo.user.domain.User;
+import com.example.security.security_demo.user.dto.request.AssignRoleRequest;
+import com.example.security.security_demo.user.dto.request.BulkImportRequest;
+import com.example.security.security_demo.user.dto.response.ImportRowResult;
+import com.example.security.security_demo.user.dto.response.UserPage;
+import com.example.security.security_demo.user.service.UserExportService;
+import com.example.security.security_demo.user.service.UserImportService;
+import com.example.security.security_demo.user.service.UserPrincipalCache;
 import com.example.security.security_demo.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -23,6 +37,9 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
 
     /**
      * 🔒 JWT 토큰 필수 - 현재 로그인한 사용자 정보 조회
@@ -37,7 +54,7 @@ public class UserController {
      * 3. 이 메서드에서 SecurityContext에서 사용자 정보 추출
      */
     @GetMapping("/me")
-    public ResponseEntity<Map<String, Object>> getCurrentUser() {
+    public ResponseEntity<Map<String, Object>> getCurrentUser(WebRequest webRequest) {
         log.info("📥 현재 사용자 정보 요청");
 
         // 🎯 JWT 필터에서 설정한 SecurityContext에서 인증 정보 가져오기
@@ -47,25 +64,33 @@ public class UserController {
             String username = auth.getName(); // JWT 토큰에서 추출한 사용자명
             log.info("✅ 인증된 사용자: {}", username);
 
-            // DB에서 사용자 정보 조회
-            return userService.findByUsername(username)
-                    .map(user -> {
-                        Map<String, Object> response = new HashMap<>();
-                        response.put("success", true);
-                        response.put("message", "현재 사용자 정보");
-                        response.put("data", Map.of(
-                                "id", user.getId(),
-                                "username", user.getUsername(),
-                                "roles", user.getUserRoles().stream()
-                                        .map(ur -> ur.getRole().getName())
-                                        .toList()
-                        ));
-                        return ResponseEntity.ok(response);
-                    })
-                    .orElse(ResponseEntity.badRequest().body(Map.of(
-                            "success", false,
-                            "message", "사용자를 찾을 수 없습니다"
-                    )));
+            // 사용자 캐시에서 조회 (JWT 필터와 같은 스냅샷, 미스일 때만 쿼리 한 번)
+            Optional<UserPrincipalCache.UserPrincipal> profileOpt = userPrincipalCache.get(username);
+            if (profileOpt.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "success", false,
+                        "message", "사용자를 찾을 수 없습니다"
+                ));
+            }
+
+            // If-None-Match 가 같으면 304 (본문 없음)
+            UserPrincipalCache.UserPrincipal profile = profileOpt.get();
+            if (webRequest.checkNotModified(profile.etag())) {
+                return null;
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "현재 사용자 정보");
+            response.put("data", Map.of(
+                    "id", profile.id(),
+                    "username", profile.username(),
+                    "roles", profile.roles()
+            ));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(profile.etag())
+                    .body(response);
         }
 
         // 이 상황은 JWT 필터를 거쳤는데도 인증 정보가 없는 경우 (거의 발생하지 않음)
@@ -76,36 +101,30 @@ public class UserController {
     }
 
     /**
-     * 🔒 JWT 토큰 필수 - 모든 사용자 목록 조회
+     * 🔒 JWT 토큰 필수 - 사용자 목록 조회 (keyset 페이지)
      *
      * 요청 방법:
-     * GET /api/users/list
+     * GET /api/users/list?size=50
+     * GET /api/users/list?cursor={이전 응답의 nextCursor}&size=50
      * Authorization: Bearer {JWT토큰}
      *
-     * 토큰이 없으면 401 응답, 토큰이 있으면 전체 사용자 목록 반환
+     * 토큰이 없으면 401 응답, 토큰이 있으면 id 순으로 한 페이지씩 반환
      */
     @GetMapping("/list")
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
-        log.info("📥 전체 사용자 목록 요청");
-
-        List<User> users = userService.findAll();
-
-        // 🔒 비밀번호는 응답에서 제외
-        List<Map<String, Object>> userList = users.stream()
-                .map(user -> Map.of(
-                        "id", user.getId(),
-                        "username", user.getUsername(),
-                        "roles", user.getUserRoles().stream()
-                                .map(ur -> ur.getRole().getName())
-                                .toList()
-                ))
-                .toList();
+    public ResponseEntity<Map<String, Object>> getAllUsers(@RequestParam(required = false) Long cursor,
+                                                           @RequestParam(required = false) Integer size) {
+        log.info("📥 사용자 목록 요청: cursor={}, size={}", cursor, size);
+
+        // 🔒 비밀번호는 응답에서 제외 (id, username, roles 만 조회)
+        UserPage page = userService.findPage(cursor, size);
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
-        response.put("message", "전체 사용자 목록");
-        response.put("data", userList);
-        response.put("count", userList.size());
+        response.put("message", "사용자 목록");
+        response.put("data", page.users());
+        response.put("count", page.users().size());
+        response.put("nextCursor", page.nextCursor());
+        response.put("hasNext", page.hasNext());
 
         return ResponseEntity.ok(response);
     }
@@ -128,7 +147,21 @@ public class UserController {
     public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long userId) {
         log.info("📥 사용자 삭제 요청: userId={}", userId);
 
-        // TODO: 실제 삭제 로직 구현
+        try {
+            userService.delete(userId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("사용자 삭제 실패 (참조 데이터 존재): userId={}", userId);
+            return ResponseEntity.status(409).body(Map.of(
+                    "success", false,
+                    "message", "다른 데이터(채팅방 등)가 참조하고 있어 삭제할 수 없습니다."
+            ));
+        }
+
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("message", "사용자 삭제 완료 (ADMIN 권한 확인됨)");
@@ -137,6 +170,113 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 🔐 JWT 토큰 + ADMIN 권한 필수 - 역할 부여
+     *
+     * 요청 방법:
+     * POST /api/users/{userId}/roles
+     * Authorization: Bearer {JWT토큰}
+     * { "role": "ROLE_ADMIN" }
+     */
+    @PostMapping("/{userId}/roles")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> assignRole(@PathVariable Long userId,
+                                                          @RequestBody AssignRoleRequest request,
+                                                          Authentication auth) {
+        log.info("📥 역할 부여 요청: userId={}, role={}", userId, request.getRole());
+
+        try {
+            userService.assignRole(userId, request.getRole(), auth.getName());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "역할 부여 완료",
+                "userId", userId,
+                "role", request.getRole()
+        ));
+    }
+
+    /**
+     * 🔐 JWT 토큰 + ADMIN 권한 필수 - 사용자 일괄 가입
+     *
+     * 요청 방법:
+     * POST /api/users/import
+     * Authorization: Bearer {JWT토큰}
+     * { "users": [ { "username": "...", "password": "..." }, ... ] }
+     *
+     * 행별 결과(CREATED / DUPLICATE / INVALID / FAILED)를 요청 순서대로 반환
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> importUsers(@RequestBody BulkImportRequest request,
+                                                           Authentication auth) {
+        int requested = request.getUsers() != null ? request.getUsers().size() : 0;
+        log.info("📥 사용자 일괄 가입 요청: {}건", requested);
+
+        List<ImportRowResult> results;
+        try {
+            results = userImportService.importUsers(request.getUsers(), auth.getName());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+
+        long created = results.stream().filter(r -> r.status() == ImportRowResult.Status.CREATED).count();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "사용자 일괄 가입 완료");
+        response.put("requested", requested);
+        response.put("created", created);
+        response.put("data", results);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🔐 JWT 토큰 + ADMIN 권한 필수 - 사용자 전체 내보내기 (스트리밍)
+     *
+     * 요청 방법:
+     * GET /api/users/export?format=ndjson   (기본값)
+     * GET /api/users/export?format=csv
+     * Authorization: Bearer {JWT토큰}
+     *
+     * DB 커서에서 읽는 대로 바로 응답에 쓰므로 사용자 수와 무관하게 메모리 일정,
+     * 클라이언트가 연결을 끊으면 조회도 중단됨
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportUsers(@RequestParam(required = false) String format) {
+        log.info("📥 사용자 내보내기 요청: format={}", format);
+
+        UserExportService.Format exportFormat;
+        try {
+            exportFormat = UserExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+
+        StreamingResponseBody body = out -> userExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 🌐 공개 엔드포인트 - 사용자 수 조회 (JWT 토큰 불필요)
      *
@@ -145,13 +285,14 @@ public class UserController {
      * (Authorization 헤더 없어도 됨)
      *
      * SecurityConfig에서 .permitAll()로 설정되어 있어서
-     * JWT 필터를 거치지만 인증 체크를 하지 않음
+     * JWT 필터를 거치지 않고 인증 체크도 하지 않음
+     * 사용자 수는 메모리 카운터에서 바로 반환 (테이블 크기와 무관하게 O(1))
      */
     @GetMapping("/count")
     public ResponseEntity<Map<String, Object>> getUserCount() {
         log.info("📥 사용자 수 조회 (공개)");
 
-        long count = userService.findAll().size();
+        long count = userService.count();
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -204,6 +345,8 @@ public class UserController {
 
 🔐 권한 필요 엔드포인트 (JWT 토큰 + 특정 권한 필수):
 - DELETE /api/users/{userId}   ✅ 토큰 + ADMIN 권한 필요
+- POST /api/users/{userId}/roles ✅ 토큰 + ADMIN 권한 필요
+- POST /api/users/import       ✅ 토큰 + ADMIN 권한 필요
 
 🎯 토큰 없이 보호된 엔드포인트 호출 시:
 1. JwtAuthenticationFilter에서 토큰 없음 감지
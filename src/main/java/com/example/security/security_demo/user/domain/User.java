@@ -15,8 +15,10 @@ import java.util.List;
 @Builder
 public class User {
 
+    // 💡 시퀀스 + pooled optimizer (allocationSize 만큼 id 를 미리 받아 JDBC 배치 insert 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
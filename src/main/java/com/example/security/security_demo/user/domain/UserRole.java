@@ -14,8 +14,10 @@ import java.time.LocalDateTime;
 @Builder
 public class UserRole {
 
+    // 💡 시퀀스 + pooled optimizer (allocationSize 만큼 id 를 미리 받아 JDBC 배치 insert 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_roles_seq")
+    @SequenceGenerator(name = "user_roles_seq", sequenceName = "user_roles_seq", allocationSize = 50)
     private Long id;
 
     // 🔗 유저 참조
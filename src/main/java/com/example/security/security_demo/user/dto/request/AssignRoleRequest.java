@@ -0,0 +1,11 @@
+package com.example.security.security_demo.user.dto.request;
+
+import lombok.Data;
+
+/**
+ * 역할 부여 요청 DTO (예: ROLE_ADMIN)
+ */
+@Data
+public class AssignRoleRequest {
+    private String role;
+}
@@ -0,0 +1,13 @@
+package com.example.security.security_demo.user.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 일괄 가입 요청 DTO (조직 단위 온보딩)
+ */
+@Data
+public class BulkImportRequest {
+    private List<SignupRequest> users;
+}
@@ -0,0 +1,13 @@
+package com.example.security.security_demo.user.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증 요청 DTO (게이트웨이용)
+ */
+@Data
+public class IntrospectBatchRequest {
+    private List<String> tokens;
+}
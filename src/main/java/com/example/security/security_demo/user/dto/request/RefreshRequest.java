@@ -0,0 +1,12 @@
+// src/main/java/com/example/security/security_demo/user/dto/request/RefreshRequest.java
+package com.example.security.security_demo.user.dto.request;
+
+import lombok.Data;
+
+/**
+ * 토큰 재발급 / 로그아웃 요청 DTO
+ */
+@Data
+public class RefreshRequest {
+    private String refreshToken;
+}
@@ -0,0 +1,17 @@
+package com.example.security.security_demo.user.dto.response;
+
+/**
+ * 일괄 가입 행별 결과 (요청 순서와 같은 순서)
+ */
+public record ImportRowResult(int index, String username, Status status, String message) {
+
+    public enum Status { CREATED, DUPLICATE, INVALID, FAILED }
+
+    public static ImportRowResult created(int index, String username) {
+        return new ImportRowResult(index, username, Status.CREATED, null);
+    }
+
+    public static ImportRowResult of(int index, String username, Status status, String message) {
+        return new ImportRowResult(index, username, status, message);
+    }
+}
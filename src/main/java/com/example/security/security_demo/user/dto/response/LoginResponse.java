@@ -12,6 +12,7 @@ public class LoginResponse {
     private String message;
     private String token;      // 👈 JWT 토큰
     private String tokenType;  // 👈 토큰 타입
+    private String refreshToken; // 👈 액세스 토큰 재발급용 (/auth/refresh)
 
     public LoginResponse(String username, String message, String token) {
         this.username = username;
@@ -28,4 +29,11 @@ public class LoginResponse {
                 token // 👈 파라미터로 받은 토큰 사용
         );
     }
+
+    // 로그인/재발급 성공 응답 생성 (리프레시 토큰 포함)
+    public static LoginResponse success(String username, String token, String refreshToken) {
+        LoginResponse response = success(username, token);
+        response.setRefreshToken(refreshToken);
+        return response;
+    }
 }
\ No newline at end of file
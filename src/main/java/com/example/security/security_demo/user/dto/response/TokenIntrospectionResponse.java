@@ -0,0 +1,33 @@
+package com.example.security.security_demo.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 토큰 일괄 검증 결과 (요청 순서와 같은 순서로 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class TokenIntrospectionResponse {
+
+    public enum Status { ACTIVE, EXPIRED, REVOKED, INVALID, UNKNOWN_USER }
+
+    private boolean active;
+    private Status status;
+    private String subject;   // 👈 검증에 성공한 경우에만
+    private Instant expiresAt;
+
+    public static TokenIntrospectionResponse active(String subject, Instant expiresAt) {
+        return new TokenIntrospectionResponse(true, Status.ACTIVE, subject, expiresAt);
+    }
+
+    public static TokenIntrospectionResponse inactive(Status status) {
+        return new TokenIntrospectionResponse(false, status, null, null);
+    }
+
+    public static TokenIntrospectionResponse inactive(Status status, String subject, Instant expiresAt) {
+        return new TokenIntrospectionResponse(false, status, subject, expiresAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.security.security_demo.user.dto.response;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 페이지 (keyset 방식)
+ *
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+ */
+public record UserPage(List<UserSummary> users, Long nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,13 @@
+package com.example.security.security_demo.user.dto.response;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 항목 (비밀번호 제외)
+ */
+public record UserSummary(Long id, String username, List<String> roles) {
+
+    public UserSummary {
+        roles = List.copyOf(roles);
+    }
+}
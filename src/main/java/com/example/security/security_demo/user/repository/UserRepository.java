@@ -2,9 +2,61 @@ package com.example.security.security_demo.user.repository;
 
 import com.example.security.security_demo.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // 일괄 가입용 - 이미 있는 username 을 한 번의 IN 쿼리로 확인
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    // 인증 필터 / 내 정보 조회용 - 사용자 + 역할 목록을 한 번의 쿼리로 (역할은 ',' 로 연결)
+    @Query(value = """
+            SELECT u.id AS id, u.username AS username,
+                   string_agg(r.name, ',' ORDER BY r.name) AS roles
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            WHERE u.username = :username
+            GROUP BY u.id, u.username
+            """, nativeQuery = true)
+    Optional<UserProfileRow> findProfileByUsername(@Param("username") String username);
+
+    // 토큰 일괄 검증용 - 여러 사용자 + 역할을 한 번의 IN 쿼리로 조회
+    @Query(value = """
+            SELECT u.id AS id, u.username AS username,
+                   string_agg(r.name, ',' ORDER BY r.name) AS roles
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            WHERE u.username IN (:usernames)
+            GROUP BY u.id, u.username
+            """, nativeQuery = true)
+    List<UserProfileRow> findProfilesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    // 사용자 목록 (keyset 페이지) - id 기준으로 먼저 자른 뒤 역할을 한 번에 집계
+    @Query(value = """
+            SELECT u.id AS id, u.username AS username,
+                   string_agg(r.name, ',' ORDER BY r.name) AS roles
+            FROM (SELECT id, username FROM users WHERE id > :afterId ORDER BY id LIMIT :limit) u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            GROUP BY u.id, u.username
+            ORDER BY u.id
+            """, nativeQuery = true)
+    List<UserProfileRow> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface UserProfileRow {
+        Long getId();
+
+        String getUsername();
+
+        String getRoles();
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.security.security_demo.user.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * 🔢 users / user_roles 시퀀스를 기존 id 최댓값 이후로 맞춤
+ *
+ * IDENTITY 에서 SEQUENCE 로 바꾸면 ddl-auto 가 새 시퀀스를 1 부터 만들기 때문에
+ * 기존 행과 id 가 겹친다. 스키마 생성(entityManagerFactory) 직후, 웹 서버가 요청을 받기 전에
+ * 시퀀스가 최댓값보다 뒤처져 있으면 앞으로 당겨 둔다. (이미 맞춰져 있으면 아무것도 하지 않음)
+ *
+ * 여러 인스턴스가 동시에 기동해도 안전하도록 advisory lock 으로 직렬화하고,
+ * 락을 잡은 뒤 최댓값과 시퀀스 값을 다시 읽어 시퀀스가 앞으로만 움직이게 한다.
+ * (늦게 도착한 setval 이 다른 인스턴스가 이미 나눠 준 블록 뒤로 되돌리지 않도록)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class UserSequenceAligner {
+
+    // 테이블 → 시퀀스 (엔티티의 @SequenceGenerator 와 동일해야 함)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "user_roles", "user_roles_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserSequenceAligner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void align() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 트랜잭션이 끝나면 자동으로 풀리는 락 (인스턴스 간 직렬화)
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('user_sequence_aligner'))");
+            SEQUENCES.forEach(this::align);
+        });
+    }
+
+    private void align(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+
+        // 이미 maxId 이후 블록을 쓰고 있으면 그대로 둠 (is_called = false 면 아직 한 번도 안 쓴 새 시퀀스)
+        Boolean aligned = jdbcTemplate.queryForObject(
+                "SELECT is_called AND last_value >= ? FROM " + sequence, Boolean.class, maxId);
+        if (Boolean.TRUE.equals(aligned)) {
+            return;
+        }
+
+        // pooled optimizer 는 nextval 값을 블록의 끝으로 쓰므로, 다음 블록이 maxId 이후부터 시작하게 됨
+        // GREATEST 로 현재 값보다 뒤로는 절대 돌리지 않음
+        Long value = jdbcTemplate.queryForObject(
+                "SELECT setval(?::regclass, GREATEST(?, (SELECT last_value FROM " + sequence + ")))",
+                Long.class, sequence, maxId);
+        log.info("🔢 시퀀스 {} 를 {}.id 최댓값 {} 이후로 정렬 (setval {})", sequence, table, maxId, value);
+    }
+}
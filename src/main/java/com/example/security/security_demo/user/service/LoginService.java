@@ -2,12 +2,22 @@ package com.example.security.security_demo.user.service;
 
 import com.example.security.security_demo.user.domain.User;
 import com.example.security.security_demo.user.repository.UserRepository;
+import com.example.security.security_demo.security.cache.VerifiedTokenCache;
+import com.example.security.security_demo.security.exception.PasswordHashingBusyException;
+import com.example.security.security_demo.security.metrics.AuthMetrics;
+import com.example.security.security_demo.security.service.LoginThrottleService;
+import com.example.security.security_demo.security.service.PasswordHashingService;
+import com.example.security.security_demo.security.service.RefreshTokenService;
+import com.example.security.security_demo.security.service.TokenRevocationService;
 import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -16,35 +26,100 @@ import java.util.Optional;
 public class LoginService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottleService loginThrottleService;
+    private final AuthMetrics authMetrics;
 
     /**
      * 로그인 처리 - 성공 시 JWT 토큰과 사용자 정보 반환
      */
     public LoginResult login(String username, String password) {
+        return login(username, password, null);
+    }
+
+    /**
+     * 로그인 처리 (클라이언트 IP 별 시도 제한 포함)
+     */
+    public LoginResult login(String username, String password, String clientIp) {
         log.info("로그인 시도: {}", username);
 
+        // 0. 시도 제한 확인 (DB 조회/해싱 전에 차단)
+        long stageAt = System.nanoTime();
+        long retryAfter = loginThrottleService.retryAfterSeconds(username, clientIp);
+        stageAt = authMetrics.record(AuthMetrics.LoginStage.THROTTLE, stageAt);
+        if (retryAfter > 0) {
+            log.warn("로그인 시도 제한: {} ({}초 후 재시도 가능)", username, retryAfter);
+            authMetrics.count(AuthMetrics.LoginResult.THROTTLED);
+            return LoginResult.throttled(retryAfter);
+        }
+
         // 1. 사용자 존재 확인
         Optional<User> userOpt = userRepository.findByUsername(username);
+        stageAt = authMetrics.record(AuthMetrics.LoginStage.LOOKUP, stageAt);
         if (userOpt.isEmpty()) {
             log.warn("존재하지 않는 사용자: {}", username);
+            loginThrottleService.recordFailure(username, clientIp, false);
+            authMetrics.count(AuthMetrics.LoginResult.UNKNOWN_USER);
             return LoginResult.failure("존재하지 않는 사용자입니다.");
         }
 
         User user = userOpt.get();
 
         // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        boolean matched;
+        try {
+            matched = passwordHashingService.matches(password, user.getPassword());
+        } catch (PasswordHashingBusyException e) {
+            authMetrics.count(AuthMetrics.LoginResult.BUSY);
+            throw e;
+        }
+        stageAt = authMetrics.record(AuthMetrics.LoginStage.HASH, stageAt);
+        if (!matched) {
             log.warn("비밀번호 불일치: {}", username);
+            loginThrottleService.recordFailure(username, clientIp, true);
+            authMetrics.count(AuthMetrics.LoginResult.BAD_PASSWORD);
             return LoginResult.failure("비밀번호가 틀렸습니다.");
         }
-
-        // 3. JWT 토큰 생성
-        String token = jwtTokenUtil.generateToken(username);
+        loginThrottleService.recordSuccess(username);
+
+        // 2-1. 약한/구형 해시는 평문을 알고 있는 지금 재해싱
+        upgradePasswordIfNeeded(user, password);
+
+        // 3. JWT 토큰 생성 (역할 claim 모드일 때만 역할을 로딩해서 포함)
+        stageAt = System.nanoTime();
+        String token = jwtTokenUtil.isRoleClaimsEnabled()
+                ? jwtTokenUtil.generateToken(username, roleNames(user))
+                : jwtTokenUtil.generateToken(username);
+        authMetrics.record(AuthMetrics.LoginStage.SIGN, stageAt);
+        String refreshToken = refreshTokenService.issue(user);
+        authMetrics.count(AuthMetrics.LoginResult.SUCCESS);
         log.info("로그인 성공 및 토큰 생성: {}", username);
 
-        return LoginResult.success(user, token);
+        return LoginResult.success(user, token, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (비밀번호 해싱 없음)
+     */
+    public LoginResult refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return LoginResult.failure("리프레시 토큰이 필요합니다.");
+        }
+
+        return refreshTokenService.rotate(refreshToken)
+                .map(rotation -> {
+                    String token = jwtTokenUtil.isRoleClaimsEnabled()
+                            ? jwtTokenUtil.generateToken(rotation.username(), rotation.roles())
+                            : jwtTokenUtil.generateToken(rotation.username());
+                    log.debug("액세스 토큰 재발급: {}", rotation.username());
+                    return LoginResult.refreshed(rotation.username(), token, rotation.refreshToken());
+                })
+                .orElseGet(() -> LoginResult.failure("유효하지 않거나 만료된 리프레시 토큰입니다. 다시 로그인해주세요."));
     }
 
     /**
@@ -57,21 +132,25 @@ public class LoginService {
                 return AuthResult.failure("Authorization 헤더가 없거나 형식이 잘못되었습니다.");
             }
 
-            // 2. 토큰 추출
+            // 2. 토큰 추출 + 검증 (검증 토큰 캐시)
             String token = authHeader.substring(7); // "Bearer " 제거
+            VerifiedToken verified = verifiedTokenCache.verify(TokenDigests.sha256(token), token);
+            if (tokenRevocationService.isRevoked(verified)) {
+                return AuthResult.failure("유효하지 않은 토큰입니다.");
+            }
 
-            // 3. 토큰으로 사용자 조회
-            Optional<User> userOpt = findByToken(token);
-            if (userOpt.isEmpty()) {
+            // 3. 프로필 조회 (필터와 같은 사용자 캐시, 미스일 때만 쿼리 한 번)
+            Optional<UserPrincipalCache.UserPrincipal> profileOpt = userPrincipalCache.get(verified.subject());
+            if (profileOpt.isEmpty()) {
                 return AuthResult.failure("유효하지 않은 토큰입니다.");
             }
 
             // 4. 사용자 정보 변환
-            User user = userOpt.get();
-            UserInfoResponse userInfo = createUserInfoResponse(user);
-
-            return AuthResult.success(userInfo);
+            UserPrincipalCache.UserPrincipal profile = profileOpt.get();
+            return AuthResult.success(createUserInfoResponse(profile), profile.etag());
 
+        } catch (JwtException | IllegalArgumentException e) {
+            return AuthResult.failure("유효하지 않은 토큰입니다.");
         } catch (Exception e) {
             log.error("사용자 정보 조회 중 오류 발생", e);
             return AuthResult.failure("사용자 정보 조회 중 오류가 발생했습니다.");
@@ -88,7 +167,10 @@ public class LoginService {
             }
 
             String token = authHeader.substring(7);
-            boolean isValid = findByToken(token).isPresent();
+
+            // 검증 토큰 캐시 + principal 캐시만 사용 (정상 상태에서는 DB 조회 없음)
+            String username = verifiedTokenCache.verify(TokenDigests.sha256(token), token).subject();
+            boolean isValid = username != null && userPrincipalCache.get(username).isPresent();
 
             if (isValid) {
                 return AuthResult.success("유효한 토큰입니다.");
@@ -96,20 +178,79 @@ public class LoginService {
                 return AuthResult.failure("유효하지 않은 토큰입니다.");
             }
 
+        } catch (JwtException | IllegalArgumentException e) {
+            return AuthResult.failure("유효하지 않은 토큰입니다.");
         } catch (Exception e) {
             log.error("토큰 검증 중 오류 발생", e);
             return AuthResult.failure("토큰 검증 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 저장된 해시가 현재 설정(알고리즘/cost)보다 약하면 새 해시로 교체
+     * 실패해도 로그인은 계속 진행하고 다음 로그인 때 다시 시도한다.
+     */
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+            log.info("비밀번호 해시 업그레이드: {}", user.getUsername());
+        } catch (PasswordHashingBusyException e) {
+            log.debug("해싱 큐 포화로 비밀번호 해시 업그레이드 보류: {}", user.getUsername());
+        }
+    }
+
+    /**
+     * 사용자의 역할 이름 목록 (예: ROLE_USER, ROLE_ADMIN)
+     */
+    private List<String> roleNames(User user) {
+        return user.getUserRoles().stream()
+                .map(ur -> ur.getRole().getName())
+                .toList();
+    }
+
+    /**
+     * 로그아웃 - 현재 토큰을 폐기 (jti 기준)
+     */
+    public AuthResult logout(String authHeader, String refreshToken) {
+        try {
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return AuthResult.failure("Authorization 헤더가 없거나 형식이 잘못되었습니다.");
+            }
+
+            String token = authHeader.substring(7);
+            VerifiedToken verified = verifiedTokenCache.verify(TokenDigests.sha256(token), token);
+
+            if (verified.tokenId() == null) {
+                return AuthResult.failure("폐기할 수 없는 토큰입니다. 다시 로그인 후 시도해주세요.");
+            }
+
+            tokenRevocationService.revoke(verified.tokenId(), verified.expiresAt());
+            if (refreshToken != null && !refreshToken.isBlank()) {
+                refreshTokenService.revoke(refreshToken);
+            }
+            log.info("로그아웃: {}", verified.subject());
+            return AuthResult.success("로그아웃 되었습니다.");
+
+        } catch (JwtException | IllegalArgumentException e) {
+            return AuthResult.failure("유효하지 않은 토큰입니다.");
+        } catch (Exception e) {
+            log.error("로그아웃 처리 중 오류 발생", e);
+            return AuthResult.failure("로그아웃 처리 중 오류가 발생했습니다.");
+        }
+    }
+
     /**
      * 사용자 정보 응답 객체 생성 (private 헬퍼 메서드)
      */
-    private UserInfoResponse createUserInfoResponse(User user) {
+    private UserInfoResponse createUserInfoResponse(UserPrincipalCache.UserPrincipal user) {
         return UserInfoResponse.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .name(user.getUsername()) // 실제로는 User 엔티티에 name 필드 추가 필요
+                .id(user.id())
+                .username(user.username())
+                .name(user.username()) // 실제로는 User 엔티티에 name 필드 추가 필요
                 .department("고객상담팀") // 추후 User 엔티티나 별도 테이블에서 가져와야 함
                 .role("상담원") // 추후 Role 엔티티와 연관관계 설정 필요
                 .build();
@@ -120,7 +261,7 @@ public class LoginService {
      */
     public Optional<User> findByToken(String token) {
         try {
-            String username = jwtTokenUtil.getUsernameFromToken(token);
+            String username = jwtTokenUtil.verify(token).subject();
             return userRepository.findByUsername(username);
         } catch (Exception e) {
             log.error("토큰에서 사용자 조회 실패: {}", e.getMessage());
@@ -158,27 +299,56 @@ public class LoginService {
         private final boolean success;
         private final String message;
         private final User user;
+        private final String username;
         private final String token;
+        private final String refreshToken;
+        private final long retryAfterSeconds;
 
-        private LoginResult(boolean success, String message, User user, String token) {
+        private LoginResult(boolean success, String message, User user, String username,
+                            String token, String refreshToken) {
+            this(success, message, user, username, token, refreshToken, 0L);
+        }
+
+        private LoginResult(boolean success, String message, User user, String username,
+                            String token, String refreshToken, long retryAfterSeconds) {
             this.success = success;
             this.message = message;
             this.user = user;
+            this.username = username;
             this.token = token;
+            this.refreshToken = refreshToken;
+            this.retryAfterSeconds = retryAfterSeconds;
         }
 
         public static LoginResult success(User user, String token) {
-            return new LoginResult(true, "로그인 성공", user, token);
+            return success(user, token, null);
+        }
+
+        public static LoginResult success(User user, String token, String refreshToken) {
+            return new LoginResult(true, "로그인 성공", user, user.getUsername(), token, refreshToken);
+        }
+
+        public static LoginResult refreshed(String username, String token, String refreshToken) {
+            return new LoginResult(true, "토큰 재발급 성공", null, username, token, refreshToken);
         }
 
         public static LoginResult failure(String message) {
-            return new LoginResult(false, message, null, null);
+            return new LoginResult(false, message, null, null, null, null);
+        }
+
+        public static LoginResult throttled(long retryAfterSeconds) {
+            return new LoginResult(false, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    null, null, null, null, retryAfterSeconds);
         }
 
         public boolean isSuccess() { return success; }
         public String getMessage() { return message; }
         public User getUser() { return user; }
+        public String getUsername() { return username; }
         public String getToken() { return token; }
+        public String getRefreshToken() { return refreshToken; }
+        public boolean isThrottled() { return retryAfterSeconds > 0; }
+        public long getRetryAfterSeconds() { return retryAfterSeconds; }
     }
 
     /**
@@ -188,28 +358,35 @@ public class LoginService {
         private final boolean success;
         private final String message;
         private final Object data;
+        private final String etag;
 
-        private AuthResult(boolean success, String message, Object data) {
+        private AuthResult(boolean success, String message, Object data, String etag) {
             this.success = success;
             this.message = message;
             this.data = data;
+            this.etag = etag;
         }
 
         public static AuthResult success(Object data) {
-            return new AuthResult(true, "성공", data);
+            return new AuthResult(true, "성공", data, null);
+        }
+
+        public static AuthResult success(Object data, String etag) {
+            return new AuthResult(true, "성공", data, etag);
         }
 
         public static AuthResult success(String message) {
-            return new AuthResult(true, message, null);
+            return new AuthResult(true, message, null, null);
         }
 
         public static AuthResult failure(String message) {
-            return new AuthResult(false, message, null);
+            return new AuthResult(false, message, null, null);
         }
 
         public boolean isSuccess() { return success; }
         public String getMessage() { return message; }
         public Object getData() { return data; }
+        public String getEtag() { return etag; }
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.example.security.security_demo.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 🏷️ 역할 이름 → id 레지스트리 (쓰기 경로에서 roles 테이블 조회 제거)
+ *
+ * roles 는 거의 바뀌지 않는 작은 테이블이므로 기동 시 한 번 읽어 불변 Map 으로 들고 있는다.
+ * 읽기는 락 없이, 변경(다시 읽기)은 새 Map 을 만들어 통째로 교체한다.
+ * 모르는 이름이 들어오면 다른 인스턴스에서 추가됐을 수 있으므로 한 번 다시 읽는다.
+ *
+ * 기본 역할(ROLE_USER, ROLE_ADMIN, ROLE_METRICS, ROLE_GATEWAY)은 INSERT ... ON CONFLICT DO NOTHING 으로 멱등하게 생성한다.
+ */
+@Slf4j
+@Component
+public class RoleRegistry {
+
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+    public static final String ROLE_METRICS = "ROLE_METRICS"; // /actuator/prometheus 수집기 계정용
+    public static final String ROLE_GATEWAY = "ROLE_GATEWAY"; // /auth/introspect/batch 게이트웨이 계정용
+
+    private static final List<String> BUILT_IN_ROLES = List.of(ROLE_USER, ROLE_ADMIN, ROLE_METRICS, ROLE_GATEWAY);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Map<String, Long> idsByName = Map.of();
+
+    public RoleRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기동 시 기본 역할 생성 + 전체 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadOnStartup() {
+        seedBuiltInRoles();
+        reload();
+        log.info("🏷️ 역할 {}개 로딩: {}", idsByName.size(), idsByName.keySet());
+    }
+
+    /**
+     * 역할 이름으로 id 조회 (DB 조회 없음, 모르는 이름일 때만 한 번 다시 읽음)
+     */
+    public Optional<Long> findId(String name) {
+        Long id = idsByName.get(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        synchronized (this) {
+            if (!idsByName.containsKey(name)) {
+                if (BUILT_IN_ROLES.contains(name)) {
+                    seedBuiltInRoles(); // 기동 직후 ApplicationReadyEvent 전에 들어온 요청
+                }
+                reload();
+            }
+            return Optional.ofNullable(idsByName.get(name));
+        }
+    }
+
+    /**
+     * 역할 이름으로 id 조회 (없으면 IllegalArgumentException)
+     */
+    public Long requireId(String name) {
+        return findId(name)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + name));
+    }
+
+    /**
+     * roles 테이블을 다시 읽어 Map 교체
+     */
+    public synchronized void reload() {
+        Map<String, Long> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM roles",
+                rs -> {
+                    loaded.put(rs.getString("name"), rs.getLong("id"));
+                });
+        this.idsByName = Map.copyOf(loaded);
+    }
+
+    private void seedBuiltInRoles() {
+        for (String role : BUILT_IN_ROLES) {
+            jdbcTemplate.update("INSERT INTO roles (name) VALUES (?) ON CONFLICT (name) DO NOTHING", role);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.cache.RejectedTokenCache;
+import com.example.security.security_demo.security.cache.VerifiedTokenCache;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import com.example.security.security_demo.user.dto.response.TokenIntrospectionResponse;
+import com.example.security.security_demo.user.dto.response.TokenIntrospectionResponse.Status;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔎 토큰 일괄 검증 (게이트웨이용)
+ *
+ * 1) 서명 검증: 토큰별로 독립적인 CPU 작업이므로 전용 고정 크기 풀에서 나눠 처리 (검증 토큰/거절 토큰 캐시 우선)
+ *    공용 ForkJoinPool 은 쓰지 않으며, 풀이 포화되면 호출 스레드에서 직접 검증한다.
+ * 2) 사용자 확인: principal 캐시 미스분만 IN 쿼리 한 번으로 조회 (토큰 N개 → 쿼리 최대 1번)
+ */
+@Slf4j
+@Service
+public class TokenIntrospectionService {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final int maxBatchSize;
+    private final int parallelThreshold;
+    private final ThreadPoolExecutor executor;
+
+    public TokenIntrospectionService(VerifiedTokenCache verifiedTokenCache,
+                                     RejectedTokenCache rejectedTokenCache,
+                                     TokenRevocationService tokenRevocationService,
+                                     UserPrincipalCache userPrincipalCache,
+                                     @Value("${jwt.introspect.max-batch-size:1000}") int maxBatchSize,
+                                     @Value("${jwt.introspect.parallel-threshold:32}") int parallelThreshold,
+                                     @Value("${jwt.introspect.threads:0}") int threads,
+                                     @Value("${jwt.introspect.queue-capacity:64}") int queueCapacity) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.maxBatchSize = maxBatchSize;
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+
+        // 0 이면 CPU 코어 수의 절반 (요청 스레드와 해싱 풀 몫을 남겨둠)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspector-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 토큰 목록 검증 (결과는 요청 순서와 동일)
+     *
+     * @throws IllegalArgumentException 토큰 목록이 비었거나 최대 개수를 넘은 경우
+     */
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("검증할 토큰이 없습니다.");
+        }
+        if (tokens.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBatchSize + "개까지 검증할 수 있습니다.");
+        }
+
+        // 1. 서명 검증 (중복 토큰은 한 번만)
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(tokens));
+        List<Verification> verifications = verifyAll(distinct);
+
+        // 2. 사용자 확인 (IN 쿼리 1회)
+        Set<String> subjects = new HashSet<>();
+        for (Verification verification : verifications) {
+            if (verification.token() != null && verification.token().subject() != null) {
+                subjects.add(verification.token().subject());
+            }
+        }
+        Map<String, Optional<UserPrincipalCache.UserPrincipal>> principals = subjects.isEmpty()
+                ? Map.of()
+                : userPrincipalCache.getAll(subjects);
+
+        Map<String, TokenIntrospectionResponse> results = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            results.put(distinct.get(i), toResponse(verifications.get(i), principals));
+        }
+        return tokens.stream().map(results::get).toList();
+    }
+
+    /**
+     * parallel-threshold 개씩 나눠 첫 묶음은 호출 스레드에서, 나머지는 전용 풀에서 검증
+     */
+    private List<Verification> verifyAll(List<String> tokens) {
+        Verification[] verifications = new Verification[tokens.size()];
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int from = parallelThreshold; from < tokens.size(); from += parallelThreshold) {
+            int start = from;
+            int end = Math.min(from + parallelThreshold, tokens.size());
+            futures.add(executor.submit(() -> verifyRange(tokens, verifications, start, end)));
+        }
+        verifyRange(tokens, verifications, 0, Math.min(parallelThreshold, tokens.size()));
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("토큰 검증이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("토큰 검증 실패", e.getCause());
+            }
+        }
+        return Arrays.asList(verifications);
+    }
+
+    private void verifyRange(List<String> tokens, Verification[] verifications, int from, int to) {
+        for (int i = from; i < to; i++) {
+            verifications[i] = verify(tokens.get(i));
+        }
+    }
+
+    private Verification verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Verification.failed(Status.INVALID);
+        }
+
+        String digest = TokenDigests.sha256(token);
+        // 필터에서 거절한 만료 토큰도 EXPIRED 로 답하도록 거절 사유를 그대로 사용
+        RejectedTokenCache.Reason rejected = rejectedTokenCache.rejectionReason(digest);
+        if (rejected != null) {
+            return Verification.failed(rejected == RejectedTokenCache.Reason.EXPIRED ? Status.EXPIRED : Status.INVALID);
+        }
+
+        try {
+            VerifiedToken verified = verifiedTokenCache.verify(digest, token);
+            return tokenRevocationService.isRevoked(verified)
+                    ? new Verification(verified, Status.REVOKED)
+                    : new Verification(verified, Status.ACTIVE);
+        } catch (ExpiredJwtException e) {
+            rejectedTokenCache.reject(digest, e);
+            return Verification.failed(Status.EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectedTokenCache.reject(digest, e);
+            return Verification.failed(Status.INVALID);
+        }
+    }
+
+    private TokenIntrospectionResponse toResponse(Verification verification,
+                                                  Map<String, Optional<UserPrincipalCache.UserPrincipal>> principals) {
+        VerifiedToken token = verification.token();
+        if (token == null) {
+            return TokenIntrospectionResponse.inactive(verification.status());
+        }
+        if (verification.status() != Status.ACTIVE) {
+            return TokenIntrospectionResponse.inactive(verification.status(), token.subject(), token.expiresAt());
+        }
+
+        boolean userExists = token.subject() != null
+                && principals.getOrDefault(token.subject(), Optional.empty()).isPresent();
+        return userExists
+                ? TokenIntrospectionResponse.active(token.subject(), token.expiresAt())
+                : TokenIntrospectionResponse.inactive(Status.UNKNOWN_USER, token.subject(), token.expiresAt());
+    }
+
+    private record Verification(VerifiedToken token, Status status) {
+
+        static Verification failed(Status status) {
+            return new Verification(null, status);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🔢 전체 사용자 수 (메모리 카운터)
+ *
+ * 공개 엔드포인트(/api/users/count)가 users 테이블 크기와 무관하게 O(1) 로 응답하도록,
+ * 가입/삭제가 커밋된 뒤에만 증감하고 주기적으로 COUNT(*) 와 맞춘다.
+ * (다른 인스턴스에서 생긴 변경도 보정 주기마다 반영됨)
+ */
+@Slf4j
+@Component
+public class UserCounter {
+
+    private final UserRepository userRepository;
+    private final AtomicLong count = new AtomicLong();
+
+    public UserCounter(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    public long get() {
+        return count.get();
+    }
+
+    /**
+     * 가입 반영 (트랜잭션 안이면 커밋 후에만)
+     */
+    public void userCreated() {
+        usersCreated(1);
+    }
+
+    /**
+     * 일괄 가입 반영 (트랜잭션 안이면 커밋 후에만)
+     */
+    public void usersCreated(int created) {
+        afterCommit(() -> count.addAndGet(created));
+    }
+
+    /**
+     * 삭제 반영 (트랜잭션 안이면 커밋 후에만)
+     */
+    public void userDeleted() {
+        afterCommit(count::decrementAndGet);
+    }
+
+    /**
+     * COUNT(*) 로 보정
+     */
+    @Scheduled(fixedDelayString = "${users.count.reconcile-interval:60000}", initialDelayString = "${users.count.reconcile-interval:60000}")
+    public void reconcile() {
+        long actual = userRepository.count();
+        long previous = count.getAndSet(actual);
+        if (previous != actual) {
+            log.debug("🔢 사용자 수 보정: {} → {}", previous, actual);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run(); // 리포지토리 호출이 이미 자체 트랜잭션으로 커밋됨
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
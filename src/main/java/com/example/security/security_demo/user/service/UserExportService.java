@@ -0,0 +1,159 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.util.RoleAuthorities;
+import com.example.security.security_demo.user.dto.response.UserSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 📤 사용자 전체 내보내기 (NDJSON / CSV 스트리밍)
+ *
+ * findAll() 처럼 전체를 힙에 올리지 않고, 읽기 전용 트랜잭션 안에서 JDBC 커서(fetch size)로
+ * 한 행씩 읽어 바로 출력 스트림에 쓴다. 메모리는 사용자 수와 무관하게 fetch size 만큼만 쓴다.
+ *
+ * flush-every 행마다 flush 해서 클라이언트가 점진적으로 받게 하고,
+ * 클라이언트가 연결을 끊으면 다음 쓰기에서 IOException 이 나므로 그 자리에서 쿼리를 중단한다.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT u.id AS id, u.username AS username,
+                   string_agg(r.name, ',' ORDER BY r.name) AS roles
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            GROUP BY u.id, u.username
+            ORDER BY u.id
+            """;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException 지원하지 않는 형식
+         */
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (ndjson, csv)");
+            }
+        }
+    }
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter summaryWriter;
+    private final int flushEvery;
+
+    public UserExportService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${users.export.fetch-size:1000}") int fetchSize,
+                             @Value("${users.export.flush-every:1000}") int flushEvery) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.summaryWriter = objectMapper.writerFor(UserSummary.class);
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    /**
+     * 전체 사용자를 지정 형식으로 출력
+     *
+     * @return 쓴 행 수
+     * @throws IOException 출력 실패 (대부분 클라이언트 연결 끊김) - 이때 쿼리도 중단됨
+     */
+    public long export(Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] written = {0};
+
+        try {
+            if (format == Format.CSV) {
+                writer.write("id,username,roles\n");
+            }
+
+            // Postgres 는 트랜잭션 안 (autocommit off) 에서만 fetch size 만큼씩 커서로 가져온다
+            readOnlyTransaction.executeWithoutResult(status ->
+                    streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+                        UserSummary user = new UserSummary(rs.getLong("id"), rs.getString("username"),
+                                RoleAuthorities.splitAggregated(rs.getString("roles")));
+                        try {
+                            writeRow(format, user, writer);
+                            if (++written[0] % flushEvery == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            // 커서를 닫고 트랜잭션을 롤백하도록 예외로 빠져나감
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            log.info("📤 사용자 내보내기 중단 ({}건 전송 후): {}", written[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("📤 사용자 내보내기 완료: {} {}건", format.extension(), written[0]);
+        return written[0];
+    }
+
+    private void writeRow(Format format, UserSummary user, Writer writer) throws IOException {
+        if (format == Format.NDJSON) {
+            writer.write(summaryWriter.writeValueAsString(user));
+        } else {
+            writer.write(String.valueOf(user.id()));
+            writer.write(',');
+            writer.write(csvField(user.username()));
+            writer.write(',');
+            writer.write(csvField(String.join(";", user.roles())));
+        }
+        writer.write('\n');
+    }
+
+    static String csvField(String value) {
+        // 스프레드시트에서 수식으로 해석되지 않도록 (사용자가 정한 username 이므로)
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.service.PasswordHashingService;
+import com.example.security.security_demo.user.domain.Role;
+import com.example.security.security_demo.user.domain.User;
+import com.example.security.security_demo.user.domain.UserRole;
+import com.example.security.security_demo.user.dto.request.SignupRequest;
+import com.example.security.security_demo.user.dto.response.ImportRowResult;
+import com.example.security.security_demo.user.dto.response.ImportRowResult.Status;
+import com.example.security.security_demo.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 📦 일괄 가입 (조직 단위 온보딩)
+ *
+ * /auth/signup 을 반복 호출하면 사용자마다 해싱 1회 + 조회 2회 + 단건 insert 여러 번이 든다.
+ * 1) 입력 검증 + 요청 내 중복 제거
+ * 2) 이미 있는 username 을 IN 쿼리 한 번으로 확인
+ * 3) 비밀번호를 해싱 풀에서 병렬 해싱
+ * 4) users / user_roles 를 chunk 단위 트랜잭션으로 JDBC 배치 insert (시퀀스 id + hibernate.jdbc.batch_size)
+ *
+ * chunk 하나가 실패해도 (예: 동시에 같은 username 가입) 해당 chunk 의 행만 FAILED 로 보고한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
+    private final PasswordHashingService passwordHashingService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserCounter userCounter;
+    private final UsernameIndex usernameIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRows;
+    private final int chunkSize;
+
+    public UserImportService(UserRepository userRepository,
+                             RoleRegistry roleRegistry,
+                             PasswordHashingService passwordHashingService,
+                             UserPrincipalCache userPrincipalCache,
+                             UserCounter userCounter,
+                             UsernameIndex usernameIndex,
+                             EntityManager entityManager,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${users.import.max-rows:5000}") int maxRows,
+                             @Value("${users.import.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.roleRegistry = roleRegistry;
+        this.passwordHashingService = passwordHashingService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.userCounter = userCounter;
+        this.usernameIndex = usernameIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.maxRows = maxRows;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 일괄 가입 처리
+     *
+     * @param assignedBy 역할 부여자로 기록할 관리자 username
+     * @throws IllegalArgumentException 요청이 비었거나 최대 행 수를 넘은 경우
+     */
+    public List<ImportRowResult> importUsers(List<SignupRequest> rows, String assignedBy) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("가입할 사용자가 없습니다.");
+        }
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxRows + "명까지 가입할 수 있습니다.");
+        }
+
+        ImportRowResult[] results = new ImportRowResult[rows.size()];
+
+        // 1. 입력 검증 + 요청 내 중복
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            SignupRequest row = rows.get(i);
+            String username = row != null ? row.getUsername() : null;
+            if (username == null || username.isBlank() || row.getPassword() == null || row.getPassword().isBlank()) {
+                results[i] = ImportRowResult.of(i, username, Status.INVALID, "username 과 password 는 필수입니다.");
+            } else if (candidates.putIfAbsent(username, i) != null) {
+                results[i] = ImportRowResult.of(i, username, Status.DUPLICATE, "요청 안에서 중복된 사용자입니다.");
+            }
+        }
+
+        // 2. 이미 있는 사용자 (IN 쿼리 1회)
+        // Bloom filter 는 다른 인스턴스의 가입을 모를 수 있어, 여기서 거르면 chunk 전체가 FAILED 가 되므로 쓰지 않는다
+        if (!candidates.isEmpty()) {
+            for (String existing : userRepository.findExistingUsernames(candidates.keySet())) {
+                int index = candidates.remove(existing);
+                results[index] = ImportRowResult.of(index, existing, Status.DUPLICATE, "이미 존재하는 사용자입니다.");
+            }
+        }
+
+        // 3. 병렬 해싱
+        List<Integer> indexes = new ArrayList<>(candidates.values());
+        List<String> encodedPasswords = passwordHashingService.encodeAll(
+                indexes.stream().map(i -> rows.get(i).getPassword()).toList());
+
+        // 4. chunk 단위 배치 insert
+        Long userRoleId = roleRegistry.requireId(RoleRegistry.ROLE_USER);
+        int created = 0;
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + chunkSize, indexes.size()));
+            List<String> chunkPasswords = encodedPasswords.subList(from, from + chunk.size());
+            try {
+                insertChunk(rows, chunk, chunkPasswords, userRoleId, assignedBy);
+                for (int index : chunk) {
+                    results[index] = ImportRowResult.created(index, rows.get(index).getUsername());
+                }
+                created += chunk.size();
+            } catch (DataAccessException | PersistenceException e) {
+                log.warn("일괄 가입 chunk 실패 ({}건): {}", chunk.size(), e.getMessage());
+                for (int index : chunk) {
+                    results[index] = ImportRowResult.of(index, rows.get(index).getUsername(), Status.FAILED,
+                            "저장 중 오류가 발생했습니다. 다시 시도해주세요.");
+                }
+            }
+        }
+
+        // 👤 "존재하지 않음" 으로 캐시된 값 무효화
+        for (int index : indexes) {
+            if (results[index].status() == Status.CREATED) {
+                usernameIndex.add(rows.get(index).getUsername());
+                userPrincipalCache.invalidate(rows.get(index).getUsername());
+            }
+        }
+
+        log.info("📦 일괄 가입: 요청 {}건, 생성 {}건", rows.size(), created);
+        return Arrays.asList(results);
+    }
+
+    private void insertChunk(List<SignupRequest> rows, List<Integer> chunk, List<String> encodedPasswords,
+                             Long roleId, String assignedBy) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Role role = entityManager.getReference(Role.class, roleId);
+            LocalDateTime now = LocalDateTime.now();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                User user = User.builder()
+                        .username(rows.get(chunk.get(i)).getUsername())
+                        .password(encodedPasswords.get(i))
+                        .build();
+                user.getUserRoles().add(UserRole.builder()
+                        .user(user)
+                        .role(role)
+                        .assignedAt(now)
+                        .assignedBy(assignedBy)
+                        .build());
+                entityManager.persist(user);
+            }
+
+            // 배치 insert 실행 후 영속성 컨텍스트 비우기 (chunk 가 커도 메모리 일정)
+            entityManager.flush();
+            entityManager.clear();
+
+            userCounter.usersCreated(chunk.size());
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.util.RoleAuthorities;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 👤 사용자 캐시 (username → UserPrincipal)
+ *
+ * JWT 필터와 내 정보 조회(/auth/me, /api/users/me)가 같은 캐시를 쓴다.
+ * 사용자 + 역할을 쿼리 한 번으로 읽어 불변 스냅샷으로 들고 있으며, 필터는 여기 담긴 역할로 권한을 구성하고
+ * 내 정보 조회는 같은 스냅샷의 etag 로 304 를 판단하므로 둘이 서로 다른 역할을 보는 일이 없다.
+ * 역할 변경은 이 인스턴스에서는 즉시, 다른 인스턴스에서는 TTL 안에 반영된다.
+ * 존재하지 않는 사용자도 빈 값으로 캐시하며,
+ * UserService 에서 사용자를 생성/삭제하거나 역할을 바꿀 때 명시적으로 무효화한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<String, Optional<UserPrincipal>> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${users.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${users.principal-cache.ttl:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(username -> userRepository.findProfileByUsername(username)
+                        .map(UserPrincipal::from));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.principals");
+    }
+
+    /**
+     * 캐시 조회 (미스일 때만 DB 조회)
+     */
+    public Optional<UserPrincipal> get(String username) {
+        return cache.get(username);
+    }
+
+    /**
+     * 여러 사용자 일괄 조회 (캐시 미스분만 IN 쿼리 한 번으로 로딩, 없는 사용자도 빈 값으로 캐시)
+     */
+    public Map<String, Optional<UserPrincipal>> getAll(Collection<String> usernames) {
+        return cache.getAll(usernames, this::loadAll);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Map<String, Optional<UserPrincipal>> loadAll(Set<? extends String> usernames) {
+        Map<String, Optional<UserPrincipal>> loaded = new HashMap<>();
+        usernames.forEach(username -> loaded.put(username, Optional.empty()));
+        userRepository.findProfilesByUsernameIn(new ArrayList<>(usernames))
+                .forEach(row -> loaded.put(row.getUsername(), Optional.of(UserPrincipal.from(row))));
+        return loaded;
+    }
+
+    /**
+     * 사용자 + 역할 불변 스냅샷 (역할은 "ROLE_ADMIN" 형태)
+     *
+     * etag 는 내용이 바뀔 때만 달라지므로 If-None-Match 비교에 그대로 사용한다.
+     */
+    public record UserPrincipal(Long id, String username, List<String> roles, String etag) {
+
+        public UserPrincipal {
+            roles = List.copyOf(roles);
+        }
+
+        public static UserPrincipal of(Long id, String username, List<String> roles) {
+            String digest = TokenDigests.sha256(id + ":" + username + ":" + String.join(",", roles));
+            return new UserPrincipal(id, username, roles, "\"" + digest.substring(0, 16) + "\"");
+        }
+
+        static UserPrincipal from(UserRepository.UserProfileRow row) {
+            return of(row.getId(), row.getUsername(), RoleAuthorities.splitAggregated(row.getRoles()));
+        }
+    }
+}
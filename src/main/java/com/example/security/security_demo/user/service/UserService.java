@@ -1,15 +1,26 @@
 package com.example.security.security_demo.user.service;
 
+import com.example.security.security_demo.security.exception.PasswordHashingBusyException;
+import com.example.security.security_demo.security.metrics.AuthMetrics;
+import com.example.security.security_demo.security.service.PasswordHashingService;
+import com.example.security.security_demo.security.service.RefreshTokenService;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.security.util.RoleAuthorities;
 import com.example.security.security_demo.user.domain.Role;
 import com.example.security.security_demo.user.domain.User;
 import com.example.security.security_demo.user.domain.UserRole;
+import com.example.security.security_demo.user.dto.response.UserPage;
+import com.example.security.security_demo.user.dto.response.UserSummary;
 import com.example.security.security_demo.user.repository.RoleRepository;
 import com.example.security.security_demo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,25 +30,52 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RoleRegistry roleRegistry;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserCounter userCounter;
+    private final UsernameIndex usernameIndex;
+    private final AuthMetrics authMetrics;
+
+    @Value("${users.list.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${users.list.max-page-size:200}")
+    private int maxPageSize;
 
     /**
      * 회원가입 처리
      */
     public User register(String username, String rawPassword) {
-        if (userRepository.findByUsername(username).isPresent()) {
+        long stageAt = System.nanoTime();
+        // 🌸 Bloom filter 가 "확실히 없음" 이라고 하면 조회 생략 (오탐/누락은 유니크 인덱스가 막음)
+        boolean exists = usernameIndex.mightExist(username)
+                && userRepository.findByUsername(username).isPresent();
+        stageAt = authMetrics.record(AuthMetrics.RegisterStage.LOOKUP, stageAt);
+        if (exists) {
+            authMetrics.count(AuthMetrics.RegisterResult.DUPLICATE);
             throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
         }
 
-        Role userRole = roleRepository.findByName("ROLE_USER")
-                .orElseGet(() -> roleRepository.save(
-                        Role.builder().name("ROLE_USER").build()
-                ));
+        String encodedPassword;
+        try {
+            encodedPassword = passwordHashingService.encode(rawPassword);
+        } catch (PasswordHashingBusyException e) {
+            authMetrics.count(AuthMetrics.RegisterResult.BUSY);
+            throw e;
+        }
+        stageAt = authMetrics.record(AuthMetrics.RegisterStage.HASH, stageAt);
+
+        // 🏷️ 역할은 레지스트리에서 id 만 얻고 프록시 참조로 연결 (roles 조회 없음)
+        Role userRole = roleRepository.getReferenceById(roleRegistry.requireId(RoleRegistry.ROLE_USER));
 
         // 🔥 중간 엔티티 생성
         User user = User.builder()
                 .username(username)
-                .password(passwordEncoder.encode(rawPassword))
+                .password(encodedPassword)
                 .build();
 
         UserRole userRoleEntity = UserRole.builder()
@@ -48,7 +86,77 @@ public class UserService {
         // 👇 연관관계 세팅
         user.setUserRoles(List.of(userRoleEntity));
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 사전 조회를 건너뛰었거나 동시에 같은 이름으로 가입한 경우
+            usernameIndex.add(username);
+            authMetrics.count(AuthMetrics.RegisterResult.DUPLICATE);
+            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        }
+        usernameIndex.add(username);
+        userCounter.userCreated();
+        authMetrics.record(AuthMetrics.RegisterStage.SAVE, stageAt);
+        authMetrics.count(AuthMetrics.RegisterResult.SUCCESS);
+
+        // 👤 "존재하지 않음" 으로 캐시된 값이 남아있을 수 있으므로 무효화
+        userPrincipalCache.invalidate(username);
+
+        return saved;
+    }
+
+    /**
+     * 사용자 삭제 (리프레시 토큰 삭제 + 발급된 액세스 토큰 전체 폐기)
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 다른 데이터(채팅방 등)가 아직 참조 중인 경우
+     */
+    @Transactional
+    public void delete(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        refreshTokenService.deleteAllForUser(userId);
+        userRepository.delete(user);
+        // FK 위반은 여기서 드러나게 해서 토큰 폐기 전에 롤백되도록
+        userRepository.flush();
+
+        tokenRevocationService.revokeUser(user.getUsername());
+        userCounter.userDeleted();
+        userPrincipalCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * 역할 부여 (이미 가진 역할이면 그대로 둠)
+     */
+    @Transactional
+    public void assignRole(Long userId, String roleName, String assignedBy) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long roleId = roleRegistry.requireId(roleName);
+        Role role = roleRepository.getReferenceById(roleId);
+
+        boolean alreadyAssigned = user.getUserRoles().stream()
+                .anyMatch(ur -> ur.getRole().getId().equals(roleId));
+        if (alreadyAssigned) {
+            return;
+        }
+
+        user.getUserRoles().add(UserRole.builder()
+                .user(user)
+                .role(role)
+                .assignedAt(LocalDateTime.now())
+                .assignedBy(assignedBy)
+                .build());
+        userRepository.save(user);
+
+        // 🪪 역할이 바뀌었으므로 사용자 캐시 무효화 (필터와 내 정보 조회가 같은 캐시를 봄)
+        userPrincipalCache.invalidate(user.getUsername());
+        // 역할 claim 이 든 기존 액세스 토큰은 사용자 단위로 폐기 (리프레시로 새 역할이 담긴 토큰 재발급)
+        // claim 모드가 아니면 권한은 방금 무효화한 principal 캐시에서 오므로 토큰은 그대로 둔다
+        if (jwtTokenUtil.isRoleClaimsEnabled()) {
+            tokenRevocationService.revokeUser(user.getUsername());
+        }
     }
 
     /**
@@ -58,6 +166,35 @@ public class UserService {
         return userRepository.findByUsername(username);
     }
 
+    /**
+     * 전체 사용자 수 (메모리 카운터, DB 조회 없음)
+     */
+    public long count() {
+        return userCounter.get();
+    }
+
+    /**
+     * 사용자 목록 한 페이지 (id 기준 keyset, 역할 포함 쿼리 한 번)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (users.list.max-page-size 를 넘지 않음)
+     */
+    public UserPage findPage(Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        long afterId = cursor == null ? 0L : cursor;
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<UserRepository.UserProfileRow> rows = userRepository.findPageAfter(afterId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<UserSummary> users = rows.stream()
+                .limit(pageSize)
+                .map(row -> new UserSummary(row.getId(), row.getUsername(), RoleAuthorities.splitAggregated(row.getRoles())))
+                .toList();
+
+        Long nextCursor = hasNext ? users.get(users.size() - 1).id() : null;
+        return new UserPage(users, nextCursor, hasNext);
+    }
+
     /**
      * 모든 유저 조회 (관리자 용도 등)
      */
@@ -0,0 +1,117 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.util.ConcurrentBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 🌸 기존 username Bloom filter (가입 중복 사전 조회 생략용)
+ *
+ * mightExist() 가 false 면 "확실히 없는 이름" 이므로 가입 시 findByUsername 조회를 건너뛴다.
+ * true 면 (실제로 있거나 오탐) 기존처럼 조회한다.
+ * 다른 인스턴스에서 막 가입한 이름은 여기 없을 수 있지만, 그때는 users.username 유니크 인덱스가 막는다.
+ *
+ * 기동 시 users 를 커서로 흘려 읽어 채우고, 가입이 커밋될 때마다 추가한다.
+ * 삭제는 반영하지 않으므로 (오탐만 늘어남) 주기적으로 새로 만들어 교체한다.
+ */
+@Slf4j
+@Component
+public class UsernameIndex {
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedSize;
+    private final double falsePositiveRate;
+
+    private final Counter skippedLookups;
+    private volatile ConcurrentBloomFilter filter;   // null 이면 아직 로딩 전 → 항상 "있을 수도 있음"
+    private volatile ConcurrentBloomFilter building; // 재구성 중에 들어온 가입도 놓치지 않도록 함께 기록
+
+    public UsernameIndex(DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${users.username-index.expected-size:100000}") long expectedSize,
+                         @Value("${users.username-index.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${users.username-index.fetch-size:10000}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedSize = expectedSize;
+        this.falsePositiveRate = falsePositiveRate;
+        this.skippedLookups = Counter.builder("users.username.index.skipped")
+                .description("Bloom filter 덕분에 건너뛴 username 중복 조회 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long loaded = rebuild();
+        log.info("🌸 username 인덱스 {}건 로딩", loaded);
+    }
+
+    /**
+     * false 면 확실히 없는 username (DB 조회 생략 가능)
+     */
+    public boolean mightExist(String username) {
+        ConcurrentBloomFilter current = filter;
+        if (current != null && !current.mightContain(username)) {
+            skippedLookups.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 가입된 username 추가 (저장이 끝난 뒤 호출)
+     */
+    public void add(String username) {
+        // building 을 먼저 읽어야 교체 직후에도 새 filter 에 기록된다
+        ConcurrentBloomFilter pending = building;
+        if (pending != null) {
+            pending.put(username);
+        }
+        ConcurrentBloomFilter current = filter;
+        if (current != null) {
+            current.put(username);
+        }
+    }
+
+    /**
+     * users 를 다시 읽어 새 filter 로 교체 (삭제된 이름 / 다른 인스턴스의 가입 반영)
+     *
+     * @return 읽은 username 수
+     */
+    @Scheduled(fixedDelayString = "${users.username-index.rebuild-interval:3600000}", initialDelayString = "${users.username-index.rebuild-interval:3600000}")
+    public synchronized long rebuild() {
+        Long total = readOnlyTransaction.execute(status -> {
+            Long count = streamingJdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            ConcurrentBloomFilter rebuilt = ConcurrentBloomFilter.create(
+                    Math.max(expectedSize, (count != null ? count : 0L) * 2), falsePositiveRate);
+            building = rebuilt;
+
+            // Postgres 는 트랜잭션 안 (autocommit off) 에서만 fetch size 만큼씩 커서로 가져온다
+            long[] read = {0};
+            streamingJdbcTemplate.query("SELECT username FROM users", rs -> {
+                rebuilt.put(rs.getString(1));
+                read[0]++;
+            });
+
+            filter = rebuilt;
+            return read[0];
+        });
+        building = null;
+        return total != null ? total : 0L;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.security.security_demo.security.cache;
+
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "token";
+    private static final String DIGEST = "digest";
+
+    private JwtTokenUtil jwtTokenUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = mock(JwtTokenUtil.class);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 다시 검증하지 않고 캐시에서 반환")
+    void cachesVerifiedToken() {
+        VerifiedTokenCache cache = cache(600);
+        VerifiedToken verified = token(Instant.now().plusSeconds(900));
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(verified);
+
+        assertThat(cache.verify(DIGEST, TOKEN)).isSameAs(verified);
+        assertThat(cache.verify(DIGEST, TOKEN)).isSameAs(verified);
+
+        verify(jwtTokenUtil, times(1)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("토큰 exp 가 max-ttl 보다 빠르면 exp 에 맞춰 만료")
+    void entryExpiresAtTokenExpiry() throws InterruptedException {
+        VerifiedTokenCache cache = cache(600);
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(token(Instant.now().plusMillis(500)));
+
+        cache.verify(DIGEST, TOKEN);
+        Thread.sleep(1_000);
+        cache.verify(DIGEST, TOKEN);
+
+        verify(jwtTokenUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("토큰 exp 가 max-ttl 보다 늦으면 max-ttl 에 맞춰 만료")
+    void entryExpiresAtMaxTtl() throws InterruptedException {
+        VerifiedTokenCache cache = cache(1);
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(token(Instant.now().plusSeconds(3_600)));
+
+        cache.verify(DIGEST, TOKEN);
+        Thread.sleep(1_500);
+        cache.verify(DIGEST, TOKEN);
+
+        verify(jwtTokenUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("이미 만료 시각이 지난 토큰은 캐시에 남지 않음")
+    void alreadyExpiredTokenIsNotRetained() {
+        VerifiedTokenCache cache = cache(600);
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(token(Instant.now().minusSeconds(1)));
+
+        cache.verify(DIGEST, TOKEN);
+        cache.verify(DIGEST, TOKEN);
+
+        verify(jwtTokenUtil, times(2)).verify(TOKEN);
+    }
+
+    private VerifiedTokenCache cache(long maxTtlSeconds) {
+        return new VerifiedTokenCache(jwtTokenUtil, new SimpleMeterRegistry(), 100, maxTtlSeconds);
+    }
+
+    private static VerifiedToken token(Instant expiresAt) {
+        return new VerifiedToken("alice", expiresAt, Instant.now(), List.of(), Map.of());
+    }
+}
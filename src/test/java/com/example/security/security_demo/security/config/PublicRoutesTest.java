@@ -0,0 +1,52 @@
+package com.example.security.security_demo.security.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRoutesTest {
+
+    @Test
+    @DisplayName("인증 엔드포인트는 지정된 메서드로만 공개")
+    void authRoutes() {
+        assertThat(PublicRoutes.matches("POST", "/auth/login")).isTrue();
+        assertThat(PublicRoutes.matches("POST", "/auth/signup")).isTrue();
+        assertThat(PublicRoutes.matches("GET", "/auth/login")).isFalse();
+        assertThat(PublicRoutes.matches("POST", "/auth/introspect/batch")).isFalse();
+        assertThat(PublicRoutes.matches("GET", "/auth/me")).isFalse();
+    }
+
+    @Test
+    @DisplayName("헬스 체크만 공개하고 메트릭 수집 엔드포인트는 공개하지 않음")
+    void actuatorRoutes() {
+        assertThat(PublicRoutes.matches("GET", "/actuator/health")).isTrue();
+        assertThat(PublicRoutes.matches("GET", "/actuator/health/liveness")).isTrue();
+        assertThat(PublicRoutes.matches("GET", "/actuator/prometheus")).isFalse();
+        assertThat(PublicRoutes.matches("GET", "/actuator/env")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보호된 사용자 API 는 공개 경로가 아님")
+    void protectedUserRoutes() {
+        assertThat(PublicRoutes.matches("GET", "/api/users/count")).isTrue();
+        assertThat(PublicRoutes.matches("GET", "/api/users/me")).isFalse();
+        assertThat(PublicRoutes.matches("GET", "/api/users/export")).isFalse();
+        assertThat(PublicRoutes.matches("GET", "/api/chatting/rooms")).isTrue();
+        assertThat(PublicRoutes.matches("POST", "/api/chatting/rooms")).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 매처는 context path 를 뗀 경로로 판단")
+    void requestMatcherStripsContextPath() {
+        MockHttpServletRequest publicRequest = new MockHttpServletRequest("GET", "/app/api/users/count");
+        publicRequest.setContextPath("/app");
+        MockHttpServletRequest protectedRequest = new MockHttpServletRequest("GET", "/app/api/users/me");
+        protectedRequest.setContextPath("/app");
+
+        assertThat(PublicRoutes.REQUEST_MATCHER.matches(publicRequest)).isTrue();
+        assertThat(PublicRoutes.REQUEST_MATCHER.matches(protectedRequest)).isFalse();
+        assertThat(PublicRoutes.matches(publicRequest)).isTrue();
+    }
+}
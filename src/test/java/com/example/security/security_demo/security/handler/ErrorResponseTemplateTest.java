@@ -0,0 +1,69 @@
+package com.example.security.security_demo.security.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("고정 필드와 요청별 필드가 유효한 JSON 으로 출력")
+    void writesValidJson() throws Exception {
+        ErrorResponseTemplate template = new ErrorResponseTemplate(401, "Unauthorized", "인증이 필요합니다.");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        template.write(response, "/api/users/me");
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        JsonNode json = objectMapper.readTree(response.getContentAsString());
+        assertThat(json.get("success").asBoolean()).isFalse();
+        assertThat(json.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(json.get("message").asText()).isEqualTo("인증이 필요합니다.");
+        assertThat(json.get("status").asInt()).isEqualTo(401);
+        assertThat(json.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+        assertThat(json.get("path").asText()).isEqualTo("/api/users/me");
+        assertThat(json.has("details")).isFalse();
+        assertThat(json.has("type")).isFalse();
+    }
+
+    @Test
+    @DisplayName("따옴표 · 역슬래시 · 제어 문자 · 비 ASCII 문자를 이스케이프해 원래 값으로 복원")
+    void escapesSpecialCharacters() throws Exception {
+        String message = "say \"hi\"\\\t끝";
+        String path = "/api/\"quoted\"\\path\n한글😀";
+        String details = "line1\r\nline2\u0000";
+        String type = "Some\"Exception";
+        ErrorResponseTemplate template = new ErrorResponseTemplate(403, "Forbidden", message);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        template.write(response, path, details, type);
+
+        JsonNode json = objectMapper.readTree(response.getContentAsString());
+        assertThat(json.get("message").asText()).isEqualTo(message);
+        assertThat(json.get("path").asText()).isEqualTo(path);
+        assertThat(json.get("details").asText()).isEqualTo(details);
+        assertThat(json.get("type").asText()).isEqualTo(type);
+    }
+
+    @Test
+    @DisplayName("요청별 값은 ASCII 로만 출력")
+    void requestValuesAreAsciiOnly() throws Exception {
+        ErrorResponseTemplate template = new ErrorResponseTemplate(401, "Unauthorized", "unauthorized");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        template.write(response, "/한글");
+
+        byte[] body = response.getContentAsByteArray();
+        for (byte b : body) {
+            assertThat(b).isGreaterThanOrEqualTo((byte) 0);
+        }
+        assertThat(response.getContentAsString()).contains("\\ud55c\\uae00");
+    }
+}
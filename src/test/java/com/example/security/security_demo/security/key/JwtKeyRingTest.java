@@ -0,0 +1,124 @@
+package com.example.security.security_demo.security.key;
+
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-signing-at-least-32-bytes";
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    @DisplayName("교체하면 새 키로 서명하고 이전 키는 드레인 기간 동안 검증 전용으로 남음")
+    void rotateKeepsPreviousKeyForVerification() {
+        JwtKeyRing keyRing = keyRing(3_600);
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(keyRing);
+        String oldToken = jwtTokenUtil.generateToken("alice");
+
+        JwtSigningKey rotated = keyRing.rotate("k2", null);
+        String newToken = jwtTokenUtil.generateToken("bob");
+
+        assertThat(keyRing.activeKey().kid()).isEqualTo("k2");
+        assertThat(rotated.isRetiring()).isFalse();
+        assertThat(jwtTokenUtil.verify(oldToken).subject()).isEqualTo("alice");
+        assertThat(jwtTokenUtil.verify(newToken).subject()).isEqualTo("bob");
+
+        JwtKeyRing.KeyInfo previous = keyRing.describe().stream()
+                .filter(key -> key.kid().equals(JwtKeyRing.DEFAULT_KID))
+                .findFirst()
+                .orElseThrow();
+        assertThat(previous.active()).isFalse();
+        assertThat(previous.retireAt()).isAfter(Instant.now().plusSeconds(3_500));
+    }
+
+    @Test
+    @DisplayName("드레인 기간이 끝난 키는 제거되고 그 키로 서명된 토큰은 거절")
+    void purgeRemovesDrainedKeys() {
+        JwtKeyRing keyRing = keyRing(0);
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(keyRing);
+        String oldToken = jwtTokenUtil.generateToken("alice");
+
+        keyRing.rotate("k2", null);
+        keyRing.purgeRetiredKeys();
+
+        assertThat(keyRing.describe()).extracting(JwtKeyRing.KeyInfo::kid).containsExactly("k2");
+        assertThat(events).containsExactly(new JwtKeysRemovedEvent(Set.of(JwtKeyRing.DEFAULT_KID)));
+        assertThatThrownBy(() -> jwtTokenUtil.verify(oldToken))
+                .isInstanceOf(UnknownSigningKeyException.class);
+        assertThat(jwtTokenUtil.verify(jwtTokenUtil.generateToken("bob")).subject()).isEqualTo("bob");
+    }
+
+    @Test
+    @DisplayName("드레인 기간이 남은 키는 제거하지 않음")
+    void purgeKeepsKeysWithinDrain() {
+        JwtKeyRing keyRing = keyRing(3_600);
+
+        keyRing.rotate("k2", null);
+        keyRing.purgeRetiredKeys();
+
+        assertThat(keyRing.describe()).extracting(JwtKeyRing.KeyInfo::kid)
+                .containsExactlyInAnyOrder(JwtKeyRing.DEFAULT_KID, "k2");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연속으로 교체해도 이미 드레인 중인 키의 만료 시각은 연장되지 않음")
+    void repeatedRotationDoesNotExtendDrain() {
+        JwtKeyRing keyRing = keyRing(3_600);
+
+        keyRing.rotate("k2", null);
+        Instant firstRetireAt = retireAt(keyRing, JwtKeyRing.DEFAULT_KID);
+        keyRing.rotate("k3", null);
+
+        assertThat(retireAt(keyRing, JwtKeyRing.DEFAULT_KID)).isEqualTo(firstRetireAt);
+        assertThat(retireAt(keyRing, "k2")).isNotNull();
+        assertThat(keyRing.activeKey().kid()).isEqualTo("k3");
+    }
+
+    @Test
+    @DisplayName("이미 있는 kid 로는 교체할 수 없음")
+    void rotateRejectsDuplicateKid() {
+        JwtKeyRing keyRing = keyRing(3_600);
+
+        assertThatThrownBy(() -> keyRing.rotate(JwtKeyRing.DEFAULT_KID, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(keyRing.activeKey().kid()).isEqualTo(JwtKeyRing.DEFAULT_KID);
+    }
+
+    private JwtKeyRing keyRing(long drainSeconds) {
+        JwtKeyRing keyRing = new JwtKeyRing(events::add);
+        ReflectionTestUtils.setField(keyRing, "secret", SECRET);
+        ReflectionTestUtils.setField(keyRing, "keyFile", "");
+        ReflectionTestUtils.setField(keyRing, "drainSeconds", drainSeconds);
+        ReflectionTestUtils.setField(keyRing, "signingAlgorithm", "HS256");
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        return keyRing;
+    }
+
+    private static JwtTokenUtil jwtTokenUtil(JwtKeyRing keyRing) {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 900L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "roleClaimsEnabled", false);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+        return jwtTokenUtil;
+    }
+
+    private static Instant retireAt(JwtKeyRing keyRing, String kid) {
+        return keyRing.describe().stream()
+                .filter(key -> key.kid().equals(kid))
+                .findFirst()
+                .orElseThrow()
+                .retireAt();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.security.security_demo.security.service;
+
+import com.example.security.security_demo.security.domain.RefreshToken;
+import com.example.security.security_demo.security.repository.RefreshTokenRepository;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.user.domain.Role;
+import com.example.security.security_demo.user.domain.User;
+import com.example.security.security_demo.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private static final long REFRESH_EXPIRATION = 1_209_600;
+    private static final String RAW_TOKEN = "raw-refresh-token";
+    private static final String FAMILY_ID = "family-1";
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, REFRESH_EXPIRATION);
+
+        user = User.builder().id(1L).username("alice").password("{bcrypt}hash").build();
+        user.getUserRoles().add(UserRole.builder()
+                .user(user)
+                .role(Role.builder().name("ROLE_USER").build())
+                .build());
+    }
+
+    @Test
+    @DisplayName("발급 시 원문 대신 다이제스트를 저장하고 새 family 를 시작")
+    void issueStoresDigestOnly() {
+        String raw = refreshTokenService.issue(user);
+
+        RefreshToken saved = captureSaved();
+        assertThat(saved.getTokenHash()).isEqualTo(TokenDigests.sha256(raw)).isNotEqualTo(raw);
+        assertThat(saved.getFamilyId()).isNotBlank();
+        assertThat(saved.isRevoked()).isFalse();
+        assertThat(Duration.between(saved.getCreatedAt(), saved.getExpiresAt()).getSeconds())
+                .isEqualTo(REFRESH_EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("교체하면 기존 토큰을 사용 처리하고 같은 family 로 새 토큰 발급")
+    void rotateIssuesTokenInSameFamily() {
+        RefreshToken current = stored(false, Instant.now().plusSeconds(600));
+        when(refreshTokenRepository.markUsed(eq(current.getId()), any())).thenReturn(1);
+
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(RAW_TOKEN);
+
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().username()).isEqualTo("alice");
+        assertThat(rotation.get().roles()).containsExactly("ROLE_USER");
+        assertThat(rotation.get().refreshToken()).isNotEqualTo(RAW_TOKEN);
+
+        RefreshToken next = captureSaved();
+        assertThat(next.getFamilyId()).isEqualTo(FAMILY_ID);
+        assertThat(next.getTokenHash()).isEqualTo(TokenDigests.sha256(rotation.get().refreshToken()));
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 토큰이 다시 들어오면 family 전체 폐기")
+    void reuseRevokesFamily() {
+        RefreshToken current = stored(false, Instant.now().plusSeconds(600));
+        when(refreshTokenRepository.markUsed(eq(current.getId()), any())).thenReturn(0);
+
+        assertThat(refreshTokenService.rotate(RAW_TOKEN)).isEmpty();
+
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("폐기된 family 의 토큰은 사용 처리 없이 거절하고 다시 폐기")
+    void revokedTokenIsRejected() {
+        stored(true, Instant.now().plusSeconds(600));
+
+        assertThat(refreshTokenService.rotate(RAW_TOKEN)).isEmpty();
+
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 family 폐기 없이 거절")
+    void expiredTokenIsRejected() {
+        stored(false, Instant.now().minusSeconds(1));
+
+        assertThat(refreshTokenService.rotate(RAW_TOKEN)).isEmpty();
+
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("모르는 토큰은 거절")
+    void unknownTokenIsRejected() {
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.empty());
+
+        assertThat(refreshTokenService.rotate(RAW_TOKEN)).isEmpty();
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 해당 토큰의 family 전체 폐기")
+    void revokeRevokesFamily() {
+        stored(false, Instant.now().plusSeconds(600));
+
+        refreshTokenService.revoke(RAW_TOKEN);
+
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+    }
+
+    private RefreshToken stored(boolean revoked, Instant expiresAt) {
+        RefreshToken token = RefreshToken.builder()
+                .id(10L)
+                .tokenHash(TokenDigests.sha256(RAW_TOKEN))
+                .user(user)
+                .familyId(FAMILY_ID)
+                .createdAt(Instant.now().minusSeconds(60))
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .build();
+        when(refreshTokenRepository.findByTokenHashWithUser(TokenDigests.sha256(RAW_TOKEN)))
+                .thenReturn(Optional.of(token));
+        return token;
+    }
+
+    private RefreshToken captureSaved() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
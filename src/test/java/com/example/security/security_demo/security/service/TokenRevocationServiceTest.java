@@ -0,0 +1,86 @@
+package com.example.security.security_demo.security.service;
+
+import com.example.security.security_demo.security.domain.UserTokenRevocation;
+import com.example.security.security_demo.security.repository.RevokedTokenRepository;
+import com.example.security.security_demo.security.repository.UserTokenRevocationRepository;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private UserTokenRevocationRepository userTokenRevocationRepository;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        userTokenRevocationRepository = mock(UserTokenRevocationRepository.class);
+        when(userTokenRevocationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        tokenRevocationService = new TokenRevocationService(
+                revokedTokenRepository, userTokenRevocationRepository, 1_000, 0.001, 900);
+    }
+
+    @Test
+    @DisplayName("사용자 단위 폐기 이전에 발급된 토큰은 폐기, 이후 발급분은 같은 초라도 유효")
+    void revokeUserComparesWithMillisecondPrecision() {
+        Instant revokedAt = revokeUser("alice");
+
+        assertThat(tokenRevocationService.isRevoked(token("alice", revokedAt.minusMillis(1)))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("alice", revokedAt))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("alice", revokedAt.plusMillis(1)))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(token("bob", revokedAt.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("ms claim 이 없어 초 단위 iat 만 있는 이전 토큰은 같은 초 발급분도 폐기")
+    void legacySecondPrecisionTokenInSameSecondIsRevoked() {
+        Instant revokedAt = revokeUser("alice");
+        Instant legacyIssuedAt = revokedAt.truncatedTo(ChronoUnit.SECONDS);
+
+        assertThat(tokenRevocationService.isRevoked(token("alice", legacyIssuedAt))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("alice", null))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("alice", legacyIssuedAt.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("jti 로 폐기한 토큰만 폐기로 판단")
+    void revokeByJti() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        tokenRevocationService.revoke("jti-1", expiresAt);
+
+        assertThat(tokenRevocationService.isRevoked(token("alice", Instant.now(), "jti-1"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(token("alice", Instant.now(), "jti-2"))).isFalse();
+        verify(revokedTokenRepository).save(any());
+    }
+
+    private Instant revokeUser(String username) {
+        tokenRevocationService.revokeUser(username);
+
+        ArgumentCaptor<UserTokenRevocation> captor = ArgumentCaptor.forClass(UserTokenRevocation.class);
+        verify(userTokenRevocationRepository).save(captor.capture());
+        return captor.getValue().getRevokedAt();
+    }
+
+    private static VerifiedToken token(String subject, Instant issuedAt) {
+        return token(subject, issuedAt, null);
+    }
+
+    private static VerifiedToken token(String subject, Instant issuedAt, String jti) {
+        return new VerifiedToken(subject, Instant.now().plusSeconds(600), issuedAt, List.of(),
+                jti != null ? Map.of("jti", jti) : Map.of());
+    }
+}
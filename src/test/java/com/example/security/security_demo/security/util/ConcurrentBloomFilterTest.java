@@ -0,0 +1,75 @@
+package com.example.security.security_demo.security.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentBloomFilterTest {
+
+    private static final int ELEMENTS = 10_000;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 추가한 값은 모두 '있을 수도 있음'")
+    void noFalseNegativesUnderConcurrentPuts() throws Exception {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(ELEMENTS, 0.01);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = offset; i < ELEMENTS; i += threads) {
+                        filter.put("user-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < ELEMENTS; i++) {
+            assertThat(filter.mightContain("user-" + i)).as("user-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    void falsePositiveRateStaysNearTarget() {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(ELEMENTS, 0.01);
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.put("user-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ELEMENTS; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(ELEMENTS * 2 / 100);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 아무것도 포함하지 않음")
+    void emptyFilterContainsNothing() {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+}
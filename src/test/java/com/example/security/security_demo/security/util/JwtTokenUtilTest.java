@@ -0,0 +1,126 @@
+package com.example.security.security_demo.security.util;
+
+import com.example.security.security_demo.security.key.JwtKeyRing;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+class JwtTokenUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-signing-at-least-32-bytes";
+
+    @Test
+    @DisplayName("한 번의 검증으로 subject, 만료/발급 시각, jti 를 모두 꺼냄")
+    void verifyReturnsSnapshot() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, 900L, false);
+
+        VerifiedToken verified = jwtTokenUtil.verify(jwtTokenUtil.generateToken("alice"));
+
+        assertThat(verified.subject()).isEqualTo("alice");
+        assertThat(verified.issuedAt()).isCloseTo(Instant.now(), within(2, SECONDS));
+        assertThat(verified.expiresAt()).isCloseTo(Instant.now().plusSeconds(900), within(2, SECONDS));
+        assertThat(verified.tokenId()).isNotBlank();
+        assertThat(verified.roles()).isEmpty();
+        assertThat(verified.isExpiredAt(Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("발급 시각은 ms claim 으로 초 단위보다 정밀하게 복원")
+    void verifyUsesMillisecondIssuedAt() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, 900L, false);
+
+        VerifiedToken verified = jwtTokenUtil.verify(jwtTokenUtil.generateToken("alice"));
+
+        Object millis = verified.claims().get(JwtTokenUtil.ISSUED_AT_MILLIS_CLAIM);
+        assertThat(millis).isInstanceOf(Number.class);
+        assertThat(verified.issuedAt()).isEqualTo(Instant.ofEpochMilli(((Number) millis).longValue()));
+    }
+
+    @Test
+    @DisplayName("역할 claim 모드에서는 역할이 토큰에 실려 검증 결과로 돌아옴")
+    void verifyReadsRoleClaim() {
+        JwtTokenUtil withClaims = jwtTokenUtil(SECRET, 900L, true);
+        JwtTokenUtil withoutClaims = jwtTokenUtil(SECRET, 900L, false);
+
+        VerifiedToken verified = withClaims.verify(withClaims.generateToken("alice", List.of("ROLE_USER", "ROLE_ADMIN")));
+
+        assertThat(verified.hasRoleClaim()).isTrue();
+        assertThat(verified.roles()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(withoutClaims.verify(withoutClaims.generateToken("alice", List.of("ROLE_USER"))).hasRoleClaim())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException")
+    void verifyRejectsExpiredToken() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, -60L, false);
+        String token = jwtTokenUtil.generateToken("alice");
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtTokenUtil.validateToken(token, "alice")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명되었거나 변조된 토큰은 JwtException")
+    void verifyRejectsForeignOrTamperedToken() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, 900L, false);
+        JwtTokenUtil other = jwtTokenUtil("another-secret-key-for-jwt-signing-32-bytes!", 900L, false);
+        String token = jwtTokenUtil.generateToken("alice");
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("alice", "admin");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify(other.generateToken("alice"))).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenUtil.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenUtil.verify("not-a-jwt")).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 IllegalArgumentException")
+    void verifyRejectsBlankToken() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, 900L, false);
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("validateToken 은 subject 가 다르면 false")
+    void validateTokenComparesSubject() {
+        JwtTokenUtil jwtTokenUtil = jwtTokenUtil(SECRET, 900L, false);
+        String token = jwtTokenUtil.generateToken("alice");
+
+        assertThat(jwtTokenUtil.validateToken(token, "alice")).isTrue();
+        assertThat(jwtTokenUtil.validateToken(token, "bob")).isFalse();
+        assertThat(jwtTokenUtil.getUsernameFromToken(token)).isEqualTo("alice");
+    }
+
+    private static JwtTokenUtil jwtTokenUtil(String secret, long expiration, boolean roleClaimsEnabled) {
+        JwtKeyRing keyRing = new JwtKeyRing(event -> { });
+        ReflectionTestUtils.setField(keyRing, "secret", secret);
+        ReflectionTestUtils.setField(keyRing, "keyFile", "");
+        ReflectionTestUtils.setField(keyRing, "drainSeconds", 3_600L);
+        ReflectionTestUtils.setField(keyRing, "signingAlgorithm", "HS256");
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtTokenUtil, "roleClaimsEnabled", roleClaimsEnabled);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+        return jwtTokenUtil;
+    }
+}
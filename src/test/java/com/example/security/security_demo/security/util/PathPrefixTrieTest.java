@@ -0,0 +1,72 @@
+package com.example.security.security_demo.security.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathPrefixTrieTest {
+
+    @Test
+    @DisplayName("정확히 일치하는 패턴은 같은 경로 + 같은 메서드만 일치")
+    void exactPattern() {
+        PathPrefixTrie trie = new PathPrefixTrie().add("POST", "/auth/login");
+
+        assertThat(trie.matches("POST", "/auth/login")).isTrue();
+        assertThat(trie.matches("GET", "/auth/login")).isFalse();
+        assertThat(trie.matches("POST", "/auth/login/")).isFalse();
+        assertThat(trie.matches("POST", "/auth/logi")).isFalse();
+        assertThat(trie.matches("POST", "/auth/loginx")).isFalse();
+        assertThat(trie.matches("POST", "/auth/login/extra")).isFalse();
+    }
+
+    @Test
+    @DisplayName("/** 패턴은 자기 자신과 하위 경로에 일치하고 이름이 이어지는 형제 경로에는 불일치")
+    void prefixPattern() {
+        PathPrefixTrie trie = new PathPrefixTrie().add(null, "/api/ai/**");
+
+        assertThat(trie.matches("GET", "/api/ai")).isTrue();
+        assertThat(trie.matches("GET", "/api/ai/")).isTrue();
+        assertThat(trie.matches("POST", "/api/ai/chat/stream")).isTrue();
+        assertThat(trie.matches("GET", "/api/aix")).isFalse();
+        assertThat(trie.matches("GET", "/api")).isFalse();
+    }
+
+    @Test
+    @DisplayName("메서드를 지정하지 않은 패턴은 알 수 없는 메서드에도 일치")
+    void anyMethod() {
+        PathPrefixTrie trie = new PathPrefixTrie()
+                .add(null, "/error")
+                .add("GET", "/swagger-ui/**");
+
+        assertThat(trie.matches("PROPFIND", "/error")).isTrue();
+        assertThat(trie.matches("DELETE", "/error")).isTrue();
+        assertThat(trie.matches("GET", "/swagger-ui/index.html")).isTrue();
+        assertThat(trie.matches("POST", "/swagger-ui/index.html")).isFalse();
+        assertThat(trie.matches("PROPFIND", "/swagger-ui/index.html")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 경로에 메서드별 패턴을 여러 개 등록할 수 있음")
+    void multipleMethodsOnSamePath() {
+        PathPrefixTrie trie = new PathPrefixTrie()
+                .add("GET", "/api/chatting/rooms")
+                .add("HEAD", "/api/chatting/rooms");
+
+        assertThat(trie.matches("GET", "/api/chatting/rooms")).isTrue();
+        assertThat(trie.matches("HEAD", "/api/chatting/rooms")).isTrue();
+        assertThat(trie.matches("POST", "/api/chatting/rooms")).isFalse();
+    }
+
+    @Test
+    @DisplayName("중간 와일드카드나 경로 변수는 등록 시 거절")
+    void unsupportedPatterns() {
+        PathPrefixTrie trie = new PathPrefixTrie();
+
+        assertThatThrownBy(() -> trie.add("GET", "/api/*/rooms"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trie.add("GET", "/api/users/{id}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
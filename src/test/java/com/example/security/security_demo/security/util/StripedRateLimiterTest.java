@@ -0,0 +1,66 @@
+package com.example.security.security_demo.security.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedRateLimiterTest {
+
+    // "alice" 와 "bob" 은 1024 스트라이프에서 서로 다른 버킷에 매핑됨
+    private static final int STRIPES = 1024;
+
+    @Test
+    @DisplayName("capacity 만큼 소비하면 버킷이 비고 그 전까지는 허용")
+    void exhaustsAfterCapacity() {
+        StripedRateLimiter limiter = new StripedRateLimiter(STRIPES, 3, 1, TimeUnit.HOURS);
+
+        assertThat(limiter.consume("alice")).isFalse();
+        assertThat(limiter.consume("alice")).isFalse();
+        assertThat(limiter.tryAcquirePermit("alice")).isTrue();
+
+        assertThat(limiter.consume("alice")).isTrue();
+        assertThat(limiter.tryAcquirePermit("alice")).isFalse();
+        assertThat(limiter.retryAfterNanos("alice"))
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.HOURS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("다른 키의 버킷에는 영향 없음")
+    void keysAreIndependent() {
+        StripedRateLimiter limiter = new StripedRateLimiter(STRIPES, 1, 1, TimeUnit.HOURS);
+
+        assertThat(limiter.consume("alice")).isTrue();
+
+        assertThat(limiter.tryAcquirePermit("alice")).isFalse();
+        assertThat(limiter.tryAcquirePermit("bob")).isTrue();
+        assertThat(limiter.retryAfterNanos("bob")).isZero();
+    }
+
+    @Test
+    @DisplayName("refill 간격이 지나면 다시 허용")
+    void refillsOverTime() throws InterruptedException {
+        StripedRateLimiter limiter = new StripedRateLimiter(STRIPES, 1, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(limiter.consume("alice")).isTrue();
+        assertThat(limiter.tryAcquirePermit("alice")).isFalse();
+
+        Thread.sleep(150);
+
+        assertThat(limiter.tryAcquirePermit("alice")).isTrue();
+    }
+
+    @Test
+    @DisplayName("소비하지 않고 확인만 하면 버킷이 줄지 않음")
+    void permitCheckDoesNotConsume() {
+        StripedRateLimiter limiter = new StripedRateLimiter(STRIPES, 2, 1, TimeUnit.HOURS);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquirePermit("alice")).isTrue();
+        }
+        assertThat(limiter.consume("alice")).isFalse();
+    }
+}
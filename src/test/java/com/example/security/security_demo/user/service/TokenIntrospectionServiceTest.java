@@ -0,0 +1,182 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.cache.RejectedTokenCache;
+import com.example.security.security_demo.security.cache.VerifiedTokenCache;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.example.security.security_demo.security.util.TokenDigests;
+import com.example.security.security_demo.security.util.VerifiedToken;
+import com.example.security.security_demo.user.dto.response.TokenIntrospectionResponse;
+import com.example.security.security_demo.user.dto.response.TokenIntrospectionResponse.Status;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenIntrospectionServiceTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private RejectedTokenCache rejectedTokenCache;
+    private TokenRevocationService tokenRevocationService;
+    private UserPrincipalCache userPrincipalCache;
+    private TokenIntrospectionService introspectionService;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = mock(VerifiedTokenCache.class);
+        rejectedTokenCache = mock(RejectedTokenCache.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        userPrincipalCache = mock(UserPrincipalCache.class);
+        introspectionService = create(32);
+
+        // alice 만 존재하는 사용자
+        when(userPrincipalCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> usernames = invocation.getArgument(0);
+            Map<String, Optional<UserPrincipalCache.UserPrincipal>> result = new HashMap<>();
+            for (String username : usernames) {
+                result.put(username, "alice".equals(username)
+                        ? Optional.of(UserPrincipalCache.UserPrincipal.of(1L, username, List.of("ROLE_USER")))
+                        : Optional.empty());
+            }
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        introspectionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 INVALID")
+    void blankTokenIsInvalid() {
+        assertThat(statuses(" ")).containsExactly(Status.INVALID);
+        verifyNoInteractions(verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("거절 캐시에 있는 토큰은 저장된 사유대로 EXPIRED/INVALID")
+    void rejectedTokenUsesCachedReason() {
+        when(rejectedTokenCache.rejectionReason(TokenDigests.sha256("expired")))
+                .thenReturn(RejectedTokenCache.Reason.EXPIRED);
+        when(rejectedTokenCache.rejectionReason(TokenDigests.sha256("garbage")))
+                .thenReturn(RejectedTokenCache.Reason.INVALID);
+
+        assertThat(statuses("expired", "garbage")).containsExactly(Status.EXPIRED, Status.INVALID);
+        verifyNoInteractions(verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("만료 예외는 EXPIRED 로 답하고 거절 캐시에 기록")
+    void expiredTokenIsRejected() {
+        ExpiredJwtException expired = new ExpiredJwtException(null, null, "expired");
+        when(verifiedTokenCache.verify(anyString(), eq("expired"))).thenThrow(expired);
+
+        assertThat(statuses("expired")).containsExactly(Status.EXPIRED);
+        verify(rejectedTokenCache).reject(TokenDigests.sha256("expired"), expired);
+    }
+
+    @Test
+    @DisplayName("서명/형식 오류는 INVALID 로 답하고 거절 캐시에 기록")
+    void malformedTokenIsInvalid() {
+        MalformedJwtException malformed = new MalformedJwtException("malformed");
+        when(verifiedTokenCache.verify(anyString(), eq("malformed"))).thenThrow(malformed);
+
+        assertThat(statuses("malformed")).containsExactly(Status.INVALID);
+        verify(rejectedTokenCache).reject(TokenDigests.sha256("malformed"), malformed);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 REVOKED")
+    void revokedToken() {
+        VerifiedToken token = stubValid("revoked", "alice");
+        when(tokenRevocationService.isRevoked(token)).thenReturn(true);
+
+        List<TokenIntrospectionResponse> responses = introspectionService.introspect(List.of("revoked"));
+
+        assertThat(responses.get(0).getStatus()).isEqualTo(Status.REVOKED);
+        assertThat(responses.get(0).isActive()).isFalse();
+        assertThat(responses.get(0).getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    @DisplayName("사용자가 있으면 ACTIVE, 없으면 UNKNOWN_USER")
+    void userExistence() {
+        stubValid("alice-token", "alice");
+        stubValid("ghost-token", "ghost");
+
+        List<TokenIntrospectionResponse> responses =
+                introspectionService.introspect(List.of("alice-token", "ghost-token"));
+
+        assertThat(responses).extracting(TokenIntrospectionResponse::getStatus)
+                .containsExactly(Status.ACTIVE, Status.UNKNOWN_USER);
+        assertThat(responses.get(0).isActive()).isTrue();
+        assertThat(responses.get(1).isActive()).isFalse();
+        verify(userPrincipalCache, times(1)).getAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("중복 토큰은 한 번만 검증하고 결과는 요청 순서대로")
+    void duplicatesKeepRequestOrder() {
+        stubValid("alice-token", "alice");
+        when(verifiedTokenCache.verify(anyString(), eq("bad"))).thenThrow(new MalformedJwtException("bad"));
+
+        assertThat(statuses("alice-token", "bad", "alice-token"))
+                .containsExactly(Status.ACTIVE, Status.INVALID, Status.ACTIVE);
+        verify(verifiedTokenCache, times(1)).verify(anyString(), eq("alice-token"));
+    }
+
+    @Test
+    @DisplayName("parallel-threshold 를 넘으면 나눠서 검증해도 순서 유지")
+    void parallelVerificationKeepsOrder() {
+        introspectionService.shutdown();
+        introspectionService = create(2);
+
+        List<String> tokens = IntStream.range(0, 5).mapToObj(i -> "token-" + i).toList();
+        for (int i = 0; i < tokens.size(); i++) {
+            stubValid(tokens.get(i), i % 2 == 0 ? "alice" : "ghost");
+        }
+
+        assertThat(statuses(tokens.toArray(String[]::new))).containsExactly(
+                Status.ACTIVE, Status.UNKNOWN_USER, Status.ACTIVE, Status.UNKNOWN_USER, Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘거나 비어 있으면 IllegalArgumentException")
+    void batchSizeIsValidated() {
+        List<String> oversized = IntStream.range(0, 11).mapToObj(i -> "token-" + i).toList();
+
+        assertThatThrownBy(() -> introspectionService.introspect(oversized))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> introspectionService.introspect(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenIntrospectionService create(int parallelThreshold) {
+        return new TokenIntrospectionService(verifiedTokenCache, rejectedTokenCache, tokenRevocationService,
+                userPrincipalCache, 10, parallelThreshold, 2, 4);
+    }
+
+    private VerifiedToken stubValid(String raw, String subject) {
+        VerifiedToken token = new VerifiedToken(subject, Instant.now().plusSeconds(600), Instant.now(),
+                List.of(), Map.of("jti", raw));
+        when(verifiedTokenCache.verify(anyString(), eq(raw))).thenReturn(token);
+        return token;
+    }
+
+    private List<Status> statuses(String... tokens) {
+        return introspectionService.introspect(Arrays.asList(tokens)).stream()
+                .map(TokenIntrospectionResponse::getStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.security.security_demo.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserExportServiceTest {
+
+    @Test
+    @DisplayName("특수문자가 없으면 그대로 출력")
+    void plainValueIsUnchanged() {
+        assertThat(UserExportService.csvField("alice")).isEqualTo("alice");
+        assertThat(UserExportService.csvField("ROLE_USER;ROLE_ADMIN")).isEqualTo("ROLE_USER;ROLE_ADMIN");
+        assertThat(UserExportService.csvField("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쉼표/줄바꿈이 있으면 따옴표로 감싼다")
+    void separatorsAreQuoted() {
+        assertThat(UserExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(UserExportService.csvField("a\nb")).isEqualTo("\"a\nb\"");
+        assertThat(UserExportService.csvField("a\rb")).isEqualTo("\"a\rb\"");
+    }
+
+    @Test
+    @DisplayName("따옴표는 두 번 써서 이스케이프")
+    void quotesAreDoubled() {
+        assertThat(UserExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+    }
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다")
+    void formulaPrefixIsNeutralized() {
+        assertThat(UserExportService.csvField("=cmd")).isEqualTo("'=cmd");
+        assertThat(UserExportService.csvField("+1")).isEqualTo("'+1");
+        assertThat(UserExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(UserExportService.csvField("-1,2")).isEqualTo("\"'-1,2\"");
+        assertThat(UserExportService.csvField("a=b")).isEqualTo("a=b");
+    }
+}
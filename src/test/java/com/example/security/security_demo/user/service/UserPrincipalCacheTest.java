@@ -0,0 +1,110 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class UserPrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userPrincipalCache = new UserPrincipalCache(userRepository, new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @Test
+    @DisplayName("사용자 + 역할 행을 불변 스냅샷으로 캐시하고 두 번째 조회는 DB 를 타지 않음")
+    void getLoadsOnce() {
+        when(userRepository.findProfileByUsername("alice"))
+                .thenReturn(Optional.of(row(1L, "alice", "ROLE_ADMIN,ROLE_USER")));
+
+        UserPrincipalCache.UserPrincipal principal = userPrincipalCache.get("alice").orElseThrow();
+
+        assertThat(principal.id()).isEqualTo(1L);
+        assertThat(principal.roles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(principal.etag()).startsWith("\"").endsWith("\"");
+        assertThat(userPrincipalCache.get("alice")).containsSame(principal);
+        verify(userRepository, times(1)).findProfileByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("역할이 없는 사용자는 빈 역할 목록, 없는 사용자는 빈 값으로 캐시")
+    void missingRolesAndUsers() {
+        when(userRepository.findProfileByUsername("bob")).thenReturn(Optional.of(row(2L, "bob", null)));
+        when(userRepository.findProfileByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThat(userPrincipalCache.get("bob").orElseThrow().roles()).isEmpty();
+        assertThat(userPrincipalCache.get("ghost")).isEmpty();
+        assertThat(userPrincipalCache.get("ghost")).isEmpty();
+        verify(userRepository, times(1)).findProfileByUsername("ghost");
+    }
+
+    @Test
+    @DisplayName("역할이 바뀌면 무효화 후 새 역할과 다른 etag 로 다시 로딩")
+    void invalidateReloadsWithNewEtag() {
+        when(userRepository.findProfileByUsername("alice"))
+                .thenReturn(Optional.of(row(1L, "alice", "ROLE_USER")))
+                .thenReturn(Optional.of(row(1L, "alice", "ROLE_ADMIN,ROLE_USER")));
+
+        UserPrincipalCache.UserPrincipal before = userPrincipalCache.get("alice").orElseThrow();
+        userPrincipalCache.invalidate("alice");
+        UserPrincipalCache.UserPrincipal after = userPrincipalCache.get("alice").orElseThrow();
+
+        assertThat(after.roles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(UserPrincipalCache.UserPrincipal.of(1L, "alice", List.of("ROLE_USER")).etag())
+                .isEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시 미스분만 IN 쿼리 한 번으로 읽고 단건 조회와 같은 캐시를 공유")
+    void getAllSharesCache() {
+        when(userRepository.findProfileByUsername("alice"))
+                .thenReturn(Optional.of(row(1L, "alice", "ROLE_USER")));
+        when(userRepository.findProfilesByUsernameIn(anyCollection()))
+                .thenReturn(List.of(row(2L, "bob", "ROLE_USER")));
+
+        userPrincipalCache.get("alice");
+        Map<String, Optional<UserPrincipalCache.UserPrincipal>> all =
+                userPrincipalCache.getAll(List.of("alice", "bob", "ghost"));
+
+        assertThat(all.get("alice")).isPresent();
+        assertThat(all.get("bob")).isPresent();
+        assertThat(all.get("ghost")).isEmpty();
+        verify(userRepository, times(1)).findProfilesByUsernameIn(anyCollection());
+        assertThat(userPrincipalCache.get("bob")).containsSame(all.get("bob").orElseThrow());
+        verify(userRepository, never()).findProfileByUsername("bob");
+    }
+
+    private static UserRepository.UserProfileRow row(Long id, String username, String roles) {
+        return new UserRepository.UserProfileRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getRoles() {
+                return roles;
+            }
+        };
+    }
+}
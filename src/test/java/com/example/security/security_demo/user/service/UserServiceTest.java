@@ -0,0 +1,98 @@
+package com.example.security.security_demo.user.service;
+
+import com.example.security.security_demo.security.metrics.AuthMetrics;
+import com.example.security.security_demo.security.service.PasswordHashingService;
+import com.example.security.security_demo.security.service.RefreshTokenService;
+import com.example.security.security_demo.security.service.TokenRevocationService;
+import com.example.security.security_demo.security.util.JwtTokenUtil;
+import com.example.security.security_demo.user.domain.Role;
+import com.example.security.security_demo.user.domain.User;
+import com.example.security.security_demo.user.domain.UserRole;
+import com.example.security.security_demo.user.repository.RoleRepository;
+import com.example.security.security_demo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    private static final long USER_ROLE_ID = 1L;
+    private static final long ADMIN_ROLE_ID = 2L;
+
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
+    private TokenRevocationService tokenRevocationService;
+    private JwtTokenUtil jwtTokenUtil;
+    private UserPrincipalCache userPrincipalCache;
+    private UserService userService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        roleRegistry = mock(RoleRegistry.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        jwtTokenUtil = mock(JwtTokenUtil.class);
+        userPrincipalCache = mock(UserPrincipalCache.class);
+        userService = new UserService(userRepository, roleRepository, roleRegistry,
+                mock(PasswordHashingService.class), mock(RefreshTokenService.class), tokenRevocationService,
+                jwtTokenUtil, userPrincipalCache, mock(UserCounter.class),
+                mock(UsernameIndex.class), mock(AuthMetrics.class));
+
+        user = User.builder().id(10L).username("alice").password("{bcrypt}hash").build();
+        user.getUserRoles().add(UserRole.builder()
+                .user(user)
+                .role(Role.builder().id(USER_ROLE_ID).name(RoleRegistry.ROLE_USER).build())
+                .build());
+        when(userRepository.findById(10L)).thenReturn(Optional.of(user));
+        when(roleRegistry.requireId(RoleRegistry.ROLE_USER)).thenReturn(USER_ROLE_ID);
+        when(roleRegistry.requireId(RoleRegistry.ROLE_ADMIN)).thenReturn(ADMIN_ROLE_ID);
+        when(roleRepository.getReferenceById(any())).thenAnswer(invocation -> Role.builder()
+                .id(invocation.getArgument(0))
+                .build());
+    }
+
+    @Test
+    @DisplayName("역할 claim 모드가 아니면 캐시만 무효화하고 기존 토큰은 폐기하지 않음")
+    void assignRoleWithoutRoleClaimsKeepsTokens() {
+        when(jwtTokenUtil.isRoleClaimsEnabled()).thenReturn(false);
+
+        userService.assignRole(10L, RoleRegistry.ROLE_ADMIN, "admin");
+
+        assertThat(user.getUserRoles()).hasSize(2);
+        verify(userRepository).save(user);
+        verify(userPrincipalCache).invalidate("alice");
+        verify(tokenRevocationService, never()).revokeUser(any());
+    }
+
+    @Test
+    @DisplayName("역할 claim 모드면 이전 역할이 든 토큰을 사용자 단위로 폐기")
+    void assignRoleWithRoleClaimsRevokesTokens() {
+        when(jwtTokenUtil.isRoleClaimsEnabled()).thenReturn(true);
+
+        userService.assignRole(10L, RoleRegistry.ROLE_ADMIN, "admin");
+
+        verify(userPrincipalCache).invalidate("alice");
+        verify(tokenRevocationService).revokeUser("alice");
+    }
+
+    @Test
+    @DisplayName("이미 가진 역할이면 아무것도 바꾸지 않음")
+    void assignExistingRoleIsNoOp() {
+        when(jwtTokenUtil.isRoleClaimsEnabled()).thenReturn(true);
+
+        userService.assignRole(10L, RoleRegistry.ROLE_USER, "admin");
+
+        assertThat(user.getUserRoles()).hasSize(1);
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(userPrincipalCache, tokenRevocationService);
+    }
+}